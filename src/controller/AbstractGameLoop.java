@@ -1,24 +1,45 @@
 package controller;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import controller.metrics.LoopMetrics;
+import controller.metrics.LoopMetricsImpl;
+import controller.metrics.TickEvent;
+import controller.metrics.Timing;
+import controller.utilities.FramePacer;
 
 /**
  *  Implementation of {@link GameLoop}.
  *  A "clock" for the game. 
- *  The GameLoop synchronizes model and view every frame.
+ *  The model is updated with a fixed step, at the speed of the game.
+ *  The view is updated at the same rate, right after the model,
+ *  unless a different render rate is given: in that case the view is updated
+ *  independently of the model, with the fraction of step elapsed since the last update,
+ *  so that it can draw the entities between two steps.
+ *  When the loop is late, it updates the model a limited number of times
+ *  without updating the view, then it gives up on the time still lost.
+ *  The durations of every phase are recorded in the {@link LoopMetrics} of the loop.
  */
 public abstract class AbstractGameLoop extends Thread implements GameLoop {
 
-    private static final double TIME_FACTOR = 1000000000.0;
-    private static final double SLEEP_FACTOR = 0.0000001;
+    private static final long TIME_FACTOR = 1000000000L;
+    private static final int MAX_SKIPPED_FRAMES = 5;
+    private static final long PAUSE_POLL_MILLIS = 100;
 
     private final int gameSpeed;
+    private final int renderRate;
     private volatile boolean running;
     private volatile boolean paused;
     private volatile boolean wasPaused;
-    private Optional<Set<Agent>> threads = Optional.empty();
+    private final Lock pauseLock;
+    private final Condition pauseCondition;
+    private boolean woken;
+    private long steps;
+    private long lastFrame;
+    private final LoopMetrics metrics;
 
     /**
      * Constructor for AbstractGameLoop.
@@ -26,13 +47,31 @@ public abstract class AbstractGameLoop extends Thread implements GameLoop {
      *          the speed of the game
      */
     public AbstractGameLoop(final int gameSpeed) {
+        this(gameSpeed, gameSpeed);
+    }
+
+    /**
+     * Constructor for AbstractGameLoop, with a render rate independent from the speed of the game.
+     * @param gameSpeed
+     *          the speed of the game, that is the number of steps of the model per second
+     * @param renderRate
+     *          the number of updates of the view per second
+     */
+    public AbstractGameLoop(final int gameSpeed, final int renderRate) {
+        if (gameSpeed <= 0 || renderRate <= 0) {
+            throw new IllegalArgumentException("Invalid rates: " + gameSpeed + ", " + renderRate);
+        }
         this.gameSpeed = gameSpeed;
+        this.renderRate = renderRate;
         this.running = false;
         this.paused = false;
         this.wasPaused = false;
-        if (!this.threads.isPresent()) {
-            this.threads = Optional.of(new HashSet<>());
-        }
+        this.pauseLock = new ReentrantLock();
+        this.pauseCondition = this.pauseLock.newCondition();
+        this.woken = false;
+        this.steps = 0;
+        this.lastFrame = 0;
+        this.metrics = new LoopMetricsImpl();
     }
 
     /**
@@ -40,55 +79,151 @@ public abstract class AbstractGameLoop extends Thread implements GameLoop {
      */
     @Override
     public void run() {
-        double nextTime = System.nanoTime();
-        double lastSecondTime = (int) (nextTime / TIME_FACTOR);
+        final long step = TIME_FACTOR / this.gameSpeed;
+        final long renderStep = TIME_FACTOR / this.renderRate;
+        final boolean coupled = this.gameSpeed == this.renderRate;
+        final FramePacer pacer = new FramePacer();
+        long nextTime = System.nanoTime();
+        long nextRender = nextTime;
         this.running = true;
         while (this.running) {
             if (!this.paused) {
                 if (this.wasPaused) {
                     nextTime = System.nanoTime();
+                    nextRender = nextTime;
+                    this.lastFrame = 0;
                     this.wasPaused = false;
                 }
-                final double currTime = System.nanoTime();
-                if (currTime >= nextTime) {
-                    nextTime += TIME_FACTOR / this.gameSpeed;
-                    this.updateModel();
-                    this.updateView();
-                    synchronized (threads) {
-                        threads.get().stream().forEach(thread -> thread.tick());
+                final long currTime = System.nanoTime();
+                if (currTime - nextTime >= 0) {
+                    if (currTime - nextTime >= step) {
+                        this.metrics.missedDeadline();
                     }
-                } else {
-                    final long sleepTime = (long) (SLEEP_FACTOR * (nextTime - currTime));
-                    if (sleepTime > 0) {
-                        try {
-                            Thread.sleep(sleepTime);
-                        } catch (InterruptedException e) {
-                            System.err.println(e);
-                        }
+                    int skipped = 0;
+                    while (currTime - nextTime >= step && skipped < MAX_SKIPPED_FRAMES
+                            && this.running && !this.paused) {
+                        // Too late: updates the model without drawing it
+                        nextTime += step;
+                        this.step(false);
+                        skipped++;
                     }
-                }
-                final int thisSecond = (int) (nextTime / TIME_FACTOR);
-                if (thisSecond > lastSecondTime) {
-                    lastSecondTime = thisSecond;
-                    this.updateTime();
-                    this.updateEnemies();
+                    if (coupled) {
+                        this.metrics.skippedFrames(skipped);
+                    }
+                    if (currTime - nextTime >= step) {
+                        nextTime = currTime;
+                    }
+                    nextTime += step;
+                    this.step(coupled);
+                } else if (!coupled && currTime - nextRender >= 0) {
+                    nextRender += renderStep;
+                    if (currTime - nextRender > 0) {
+                        // Skips the frames that are too late
+                        this.metrics.skippedFrames((int) ((currTime - nextRender) / renderStep) + 1);
+                        nextRender = currTime + renderStep;
+                    }
+                    this.draw(1 - (double) (nextTime - currTime) / step);
+                } else {
+                    pacer.waitUntil(coupled || nextTime - nextRender < 0 ? nextTime : nextRender);
                 }
             } else {
                 this.wasPaused = true;
+                this.waitWhilePaused();
             }
+            final long start = System.nanoTime();
             this.updateGameState();
+            this.metrics.record(Timing.GAME_STATE, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * This method advances the game by one step of the model.
+     * Every second of game the time is updated too.
+     * @param draw
+     *          true to update the view after the model
+     */
+    private void step(final boolean draw) {
+        final TickEvent event = new TickEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        this.updateModel();
+        final long model = System.nanoTime();
+        this.updateSnapshot();
+        final long snapshot = System.nanoTime();
+        if (draw) {
+            this.draw(1);
+        }
+        final long end = System.nanoTime();
+        event.end();
+        this.metrics.record(Timing.MODEL, model - start);
+        this.metrics.record(Timing.SNAPSHOT, snapshot - model);
+        this.metrics.record(Timing.TICK, end - start);
+        if (event.shouldCommit()) {
+            event.set(this.steps, model - start, snapshot - model, end - snapshot, draw);
+            event.commit();
+        }
+        this.steps++;
+        if (this.steps % this.gameSpeed == 0) {
+            this.updateTime();
+        }
+    }
+
+    /**
+     * This method updates the view and records how long it takes.
+     * @param alpha
+     *          the fraction of step elapsed since the last update of the model
+     */
+    private void draw(final double alpha) {
+        final long start = System.nanoTime();
+        if (this.lastFrame != 0) {
+            this.metrics.record(Timing.FRAME_INTERVAL, start - this.lastFrame);
+        }
+        this.lastFrame = start;
+        this.updateView(alpha);
+        this.metrics.record(Timing.VIEW, System.nanoTime() - start);
+    }
+
+    /**
+     * This method blocks the loop while the game is paused,
+     * until the loop is woken up or a short time passes,
+     * so that the state of the game is still checked at a low rate.
+     */
+    private void waitWhilePaused() {
+        this.pauseLock.lock();
+        try {
+            if (this.paused && this.running && !this.woken) {
+                this.pauseCondition.await(PAUSE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            this.woken = false;
+        } catch (InterruptedException e) {
+            System.err.println(e);
+        } finally {
+            this.pauseLock.unlock();
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        this.pauseLock.lock();
+        try {
+            this.woken = true;
+            this.pauseCondition.signalAll();
+        } finally {
+            this.pauseLock.unlock();
         }
     }
 
     @Override
     public void stopLoop() {
         this.running = false;
+        this.wakeUp();
     }
 
     @Override
     public void unPauseLoop() {
         if (this.isPaused()) {
             this.paused = false;
+            this.wakeUp();
         }
     }
 
@@ -99,13 +234,9 @@ public abstract class AbstractGameLoop extends Thread implements GameLoop {
         }
     }
 
-    /**
-     * This method kills all agents.
-     */
-    protected void stopThreads() {
-        synchronized (threads) {
-            this.threads.get().forEach(thread -> thread.kill());
-        }
+    @Override
+    public LoopMetrics getMetrics() {
+        return this.metrics;
     }
 
     @Override
@@ -121,97 +252,38 @@ public abstract class AbstractGameLoop extends Thread implements GameLoop {
     }
 
     /**
-     * This method took a long time and an action type runnable,
-     * creates a new thread to control the time.
-     * @param delay 
-     *          is the time after which must take some action
-     * @param action 
-     *          is the action to take
+     * This method is used to update the position of the Hero.
      */
-    protected void doOperationAfterDelay(final long delay, final Runnable action) {
-        new Agent(delay, action).start();
-    }
+    public abstract void updateModel();
 
     /**
-     * This class performs a certain action after a certain time.
+     * This method is used to publish the state of the model reached in this frame,
+     * before the view is updated.
+     * By default it does nothing.
      */
-    private class Agent extends Thread {
-
-        private static final int MILLI = 1000;
-
-        private final Runnable action;
-        private final long delay;
-        private volatile long count;
-        private volatile boolean stop;
-
-        /**
-         * Constructor for Agent.
-         * @param delay
-         *              is the time after which must take some action
-         * @param action
-         *              is the action to take
-         */
-        public Agent(final long delay, final Runnable action) {
-            this.action = action;
-            this.delay = delay * AbstractGameLoop.this.gameSpeed / MILLI;
-            this.count = 0;
-            this.stop = false;
-            synchronized (threads) {
-                threads.get().add(this);
-            }
-        }
-
-        @Override
-        public void run() {
-            while (!this.stop && running) {
-                if (!paused) {
-                    if (count >= delay) {
-                        if (!stop) {
-                            action.run();
-                        }
-                        kill();
-                    }
-                }
-            }
-            synchronized (threads) {
-                threads.get().remove(this);
-            }
-        }
-
-        /**
-         * This method increase the time to get to the delay.
-         */
-        public void tick() {
-            this.count++;
-        }
-
-        /**
-         * This method kills this agent.
-         */
-        public void kill() {
-            this.stop = true;
-        }
+    public void updateSnapshot() {
     }
 
-    /**
-     * This method is used to update the position of the Hero.
-     */
-    public abstract void updateModel();
-
     /**
      * This method is used to update the graphics of game.
      */
     public abstract void updateView();
 
     /**
-     * This method is used to update the state of game.
+     * This method is used to update the graphics of game between two steps of the model.
+     * By default it ignores the fraction of step and calls {@link #updateView()}.
+     * @param alpha
+     *          the fraction of step elapsed since the last update of the model, between 0 and 1;
+     *          it is always 1 when the view is updated right after the model
      */
-    public abstract void updateGameState();
+    public void updateView(final double alpha) {
+        this.updateView();
+    }
 
     /**
-     * This method is used to update the enemies.
+     * This method is used to update the state of game.
      */
-    public abstract void updateEnemies();
+    public abstract void updateGameState();
 
     /**
      * This method is used to update the time of game.
@@ -1,13 +1,11 @@
 package controller;
 
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 
 import controller.utilities.Pair;
-import model.units.Bomb;
+import model.level.TileChange;
 import model.units.Hero;
-import model.units.Tile;
-import model.units.enemy.Enemy;
 
 /**
  * This class models a GameController.
@@ -21,18 +19,22 @@ public interface GameController {
     Hero getHero();
     
     /**
-     * Gets all the power up.
+     * Gets the last frame published by the game loop: the last two states of the game
+     * and the fraction of step between them when the view was last updated.
+     * The view should read it once for every drawing, so that all its parts match.
      * 
-     * @return the set of power up
+     * @return the last frame to draw
      */
-    Set<Tile> getPowerUp();
-    
+    RenderFrame getFrame();
+
     /**
-     * Gets all the tiles where there isn't a power up status.
+     * Adds a listener that is notified every time a tile of the map changes its type.
+     * The tiles of a new map aren't notified, see {@link model.level.WorldSnapshot#getMapId()}.
      * 
-     * @return the set of tiles
+     * @param listener
+     *          the listener to add
      */
-    Set<Tile> getTiles();
+    void addTileListener(Consumer<TileChange> listener);
     
     /**
      * @return true if the game is over, otherwise false.
@@ -46,13 +48,7 @@ public interface GameController {
     int getLevelSize();
     
     /**
-     * This method return the set of bombs.
-     * @return the set of bombs in the map
-     */
-    Set<Bomb> getPlantedBombs();
-    
-    /**
-     * Get's FPS.
+     * Get's FPS, that is the number of times the view is updated every second.
      * @return FPS
      */
     int getFPS();
@@ -63,12 +59,6 @@ public interface GameController {
      */
     long getBombDelay();
     
-    /**
-     * This method returns a set of enemy entities in the map.
-     * @return the set of enemies.
-     */
-    Set<Enemy> getEnemies();
-    
     /**
      * This method return the time elapsed since the start of the game.
      * @return the time of game
@@ -1,15 +1,32 @@
 package controller;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+import controller.metrics.LoopMetricsBean;
+import controller.metrics.StageEvent;
+import controller.simulation.GameSession;
+import controller.simulation.GameSessionImpl;
+import controller.simulation.InputSource;
+import controller.simulation.Replay;
+import controller.simulation.ReplayInput;
+import controller.simulation.ReplayRecorder;
+import controller.simulation.RewindBuffer;
 import controller.utilities.Pair;
 import model.level.Level;
-import model.units.Bomb;
-import model.units.Direction;
+import model.level.TileChange;
+import model.level.WorldSnapshot;
 import model.units.Hero;
-import model.units.Tile;
-import model.units.enemy.Enemy;
 import view.InputAction;
 import view.InputHandler;
 import view.game.DrawableFrame.GameMessage;
@@ -21,17 +38,39 @@ import view.menu.MenuFrameImpl;
 /**
  * Implementation of {@link GameController}.
  * The view can call only the functions of this interface.
+ * <p>
+ * A game can be recorded in a {@link Replay}, setting the property bomberman.record to the file to write,
+ * that is saved at every stage and at the end of the game.
+ * Setting the property bomberman.replay to a recorded file, the game plays the recorded actions instead
+ * of the keyboard, bomberman.replaySpeed times faster than normal: the ticks are all played,
+ * while the frames keep their rate, so most of the ticks aren't drawn.
+ * A replay follows exactly the recorded game only if the tiles have the same dimension,
+ * that is if the screen has the same size; {@link controller.simulation.SimulationRunner#run(Replay)}
+ * always plays it exactly, without display.
+ * <p>
+ * While the player holds {@link InputAction#REWIND} the game goes back in time,
+ * up to bomberman.rewindSeconds seconds (10 by default, 0 to disable it) and never before the beginning of the stage.
+ * The rewind is disabled while a game is recorded or played again, because the replay has only the actions.
+ * <p>
+ * Setting the property bomberman.chase to true, the enemies chase the hero instead of wandering;
+ * a replay keeps the setting of the recorded game, whatever the property.
  */
 public class GameControllerImpl implements GameController {
 
-    private static final int FPS = 60;
+    private static final int SIMULATION_RATE = Integer.getInteger("bomberman.simulationRate", 60);
+    private static final int RENDER_RATE = Integer.getInteger("bomberman.renderRate", SIMULATION_RATE);
+    private static final String RECORD_FILE = System.getProperty("bomberman.record");
+    private static final String REPLAY_FILE = System.getProperty("bomberman.replay");
+    private static final int REPLAY_SPEED = Integer.getInteger("bomberman.replaySpeed", 1);
+    private static final int REWIND_SECONDS = Integer.getInteger("bomberman.rewindSeconds", 10);
+    private static final boolean CHASE = Boolean.getBoolean("bomberman.chase");
     private static final int MULTIPLY = 2;
     private static final long WAITING_TIME = 3000;
     private final Level level;
     private final GameFrame view;
-    private volatile boolean isPlanted;
+    private final AtomicReference<RenderFrame> frame = new AtomicReference<>();
     private volatile boolean inPaused;
-    private int time;
+    private volatile GameSession session;
     private final boolean darkMode;
 
     /**
@@ -48,94 +87,102 @@ public class GameControllerImpl implements GameController {
         this.view = view;
         this.level.setFirstStage();
         this.startGame();
-        this.isPlanted = false;
         this.inPaused = false;
-        this.time = 0;
         this.darkMode = darkMode;
     }
 
     /**
      * This method begins the game.
+     * The rules of the game are played by a {@link GameSession}, driven by the game loop,
+     * while this class connects them to the view and to the keyboard.
      */
     private void startGame() {
+        final Optional<Replay> playback = REPLAY_FILE == null ? Optional.empty() : loadReplay(REPLAY_FILE);
+        final long seed = playback.isPresent() ? playback.get().getSeed() : ThreadLocalRandom.current().nextLong();
+        final int ticksPerSecond = playback.isPresent() ? playback.get().getTicksPerSecond() : SIMULATION_RATE;
+        final Optional<Replay> recording = RECORD_FILE == null || playback.isPresent() ? Optional.empty()
+                : Optional.of(new Replay(seed, ticksPerSecond, CHASE));
+        level.setSeed(seed);
+        level.setTilesNumber();
+        level.setChase(playback.isPresent() ? playback.get().isChase() : CHASE);
         view.setObserver(this);
         view.initView();
         final InputHandler inputListener = new InputHandler();
         view.setKeyListener(inputListener);
-        level.initLevel(view.getTileSize());
+        final InputSource input = playback.isPresent() ? new ReplayInput(playback.get())
+                : recording.isPresent() ? new ReplayRecorder(inputListener, recording.get()) : inputListener;
+        final GameSession game = new GameSessionImpl(level, input, ticksPerSecond);
+        this.session = game;
+        final Optional<RewindBuffer> rewind = REWIND_SECONDS > 0 && !playback.isPresent() && !recording.isPresent()
+                ? Optional.of(new RewindBuffer(game, REWIND_SECONDS * ticksPerSecond, ticksPerSecond))
+                : Optional.empty();
+        recording.ifPresent(r -> r.addStage(view.getTileSize()));
+        if (playback.isPresent() && playback.get().getTileDimension(0) != view.getTileSize()) {
+            System.err.println("The tiles have a different dimension from the recorded game, the replay may differ");
+        }
+        game.start(view.getTileSize());
+        game.addExplosionListener(tiles -> {
+            view.renderExplosion(tiles);
+            game.schedule(view.getExplosionDuration(), view::removeExplosion);
+        });
+        final WorldSnapshot first = level.takeSnapshot();
+        frame.set(new RenderFrame(first, first, 1));
 
-        final AbstractGameLoop game = new AbstractGameLoop(FPS) {
+        final int gameSpeed = playback.isPresent() ? ticksPerSecond * REPLAY_SPEED : ticksPerSecond;
+        final AbstractGameLoop loop = new AbstractGameLoop(gameSpeed, RENDER_RATE) {
             @Override
             public void updateModel() {
-                level.moveEnemies();
-                if (inputListener.isInputActive(InputAction.MOVE_DOWN)) {
-                    level.moveHero(Direction.DOWN);
+                if (rewind.isPresent() && inputListener.isInputActive(InputAction.REWIND)) {
+                    rewind.get().stepBack();
+                    return;
                 }
-                if (inputListener.isInputActive(InputAction.MOVE_LEFT)) {
-                    level.moveHero(Direction.LEFT);
-                }
-                if (inputListener.isInputActive(InputAction.MOVE_RIGHT)) {
-                    level.moveHero(Direction.RIGHT);
-                }
-                if (inputListener.isInputActive(InputAction.MOVE_UP)) {
-                    level.moveHero(Direction.UP);
-                }
-                if (!inputListener.isInputActive(InputAction.MOVE_DOWN)
-                        && !inputListener.isInputActive(InputAction.MOVE_LEFT)
-                        && !inputListener.isInputActive(InputAction.MOVE_RIGHT)
-                        && !inputListener.isInputActive(InputAction.MOVE_UP)) {
-                    level.getHero().setMoving(false);
-                }
-                if (inputListener.isInputActive(InputAction.PLANT_BOMB) && !isPlanted) {
-                    if (level.getHero().canPlantBomb(level.getSize()) 
-                            && level.getHero().getDetonator().hasBombs()) {
-                        level.getHero().plantBomb(level.getSize());
-                        this.doOperationAfterDelay(level.getHero().getDetonator().getBombDelay(),
-                                new Runnable() {
-                            @Override
-                            public void run() {
-                                view.renderExplosion(level.detonateBomb());
-                                doOperationAfterDelay(view.getExplosionDuration(), new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        view.removeExplosion();
-                                    }
-                                });
-                            }
-                        });
-                    }
-                    isPlanted = true;
-                }
-                if (!inputListener.isInputActive(InputAction.PLANT_BOMB)) {
-                    isPlanted = false;
-                }
-                if (level.getHero().hasKey()) {
-                    level.setOpenDoor();
-                }
-                if (level.getHero().hasKey() 
-                        && level.getHero().getHeroCollision().openDoorCollision(level.getDoor().getHitbox())) {
+                game.tick();
+                rewind.ifPresent(RewindBuffer::record);
+                if (!game.isOver() && game.isStageCleared()) {
+                    final StageEvent event = new StageEvent();
+                    event.begin();
                     pauseLoop();
-                    super.stopThreads();
                     view.showMessage(GameMessage.STAGE);
-                    level.setNextStage();
-                    level.setTilesNumber();
-                    try {
-                        Thread.sleep(WAITING_TIME);
-                    } catch (InterruptedException e) {
-                        System.err.println(e);
-                    }
-                    view.updateStage();
-                    level.initLevel(view.getTileSize());
+                    game.nextStage(() -> {
+                        try {
+                            Thread.sleep(WAITING_TIME);
+                        } catch (InterruptedException e) {
+                            System.err.println(e);
+                        }
+                        view.updateStage();
+                        recording.ifPresent(r -> r.addStage(view.getTileSize()));
+                        return view.getTileSize();
+                    });
+                    recording.ifPresent(GameControllerImpl::saveReplay);
+                    rewind.ifPresent(RewindBuffer::clear);
+                    final WorldSnapshot stage = level.takeSnapshot();
+                    frame.set(new RenderFrame(stage, stage, 1));
                     view.removeMessage();
                     unPauseLoop();
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.set(level.getSize(), stage.getEnemies().size());
+                        event.commit();
+                    }
                 }
             }
 
+            @Override
+            public void updateSnapshot() {
+                frame.set(new RenderFrame(frame.get().getCurrent(), level.takeSnapshot(), 1));
+            }
+
             @Override
             public void updateView() {
                 view.update();
             }
 
+            @Override
+            public void updateView(final double alpha) {
+                frame.set(frame.get().withAlpha(alpha));
+                this.updateView();
+            }
+
             @Override
             public void updateGameState() {
                 if (inputListener.isInputActive(InputAction.PAUSE) && !inPaused) {
@@ -151,19 +198,17 @@ public class GameControllerImpl implements GameController {
                 if (!inputListener.isInputActive(InputAction.PAUSE)) {
                     inPaused = false;
                 }
-                if (level.isGameOver()) {
+                if (game.isOver()) {
                     super.stopLoop();
-                    final int score = darkMode ? level.getHero().getScore() * MULTIPLY 
-                            : level.getHero().getScore();
-                    view.showGameOverPanel(score, time, 
-                            ScoreHandler.getHandler().isBestScore(level.getHero().getScore()),
+                    recording.ifPresent(GameControllerImpl::saveReplay);
+                    final int score = darkMode ? game.getScore() * MULTIPLY : game.getScore();
+                    view.showGameOverPanel(score, game.getTime(), 
+                            ScoreHandler.getHandler().isBestScore(game.getScore()),
                             new GameOverPanel.GameOverObserver() {
                         @Override
                         public void replay() {
                             view.closeView();
                             level.setFirstStage();
-                            time = 0;
-                            level.setTilesNumber();
                             startGame();
                         }
 
@@ -174,24 +219,49 @@ public class GameControllerImpl implements GameController {
                             view.closeView();
                         }
                     });
-                    ScoreHandler.getHandler().saveScore(score, time);
+                    ScoreHandler.getHandler().saveScore(score, game.getTime());
                 }
             }
 
-            @Override
-            public void updateEnemies() {
-                level.setDirectionEnemies();
-            }
-
             @Override
             public void updateTime() {
-                view.updateTime(time++);
+                view.updateTime(game.getTime());
             }
         };   
 
-        view.setGameLoop(game);
+        inputListener.setOnChange(loop::wakeUp);
+        LoopMetricsBean.register(loop.getMetrics());
+        view.setGameLoop(loop);
         view.showView();
-        game.start();
+        loop.start();
+    }
+
+    /**
+     * This method reads a recorded game.
+     * @param file
+     *          the file of the replay
+     * @return the replay, or nothing if it can't be read
+     */
+    private static Optional<Replay> loadReplay(final String file) {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return Optional.of(Replay.read(in));
+        } catch (final IOException e) {
+            System.err.println(e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * This method writes a recorded game to the file of the recordings.
+     * @param replay
+     *          the game to save
+     */
+    private static void saveReplay(final Replay replay) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(RECORD_FILE))) {
+            replay.write(out);
+        } catch (final IOException e) {
+            System.err.println(e);
+        }
     }
 
     @Override
@@ -210,37 +280,27 @@ public class GameControllerImpl implements GameController {
     }
 
     @Override
-    public Set<Bomb> getPlantedBombs() {
-        return level.getHero().getDetonator().getPlantedBombs();
-    }
-
-    @Override
-    public Set<Tile> getPowerUp() {
-        return level.getPowerUps();
+    public RenderFrame getFrame() {
+        return frame.get();
     }
 
     @Override
-    public Set<Tile> getTiles() {
-        return level.getTiles();
+    public void addTileListener(final Consumer<TileChange> listener) {
+        level.addTileListener(listener);
     }
 
     @Override
     public int getFPS() {
-        return FPS;
+        return RENDER_RATE;
     }
 
     @Override
     public long getBombDelay() {
         return level.getHero().getDetonator().getBombDelay();
     }
-    @Override
-    public Set<Enemy> getEnemies() {
-        return level.getEnemies();
-    }
-
     @Override
     public int getTime() {
-        return this.time;
+        return this.session.getTime();
     }
 
     @Override
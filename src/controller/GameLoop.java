@@ -1,5 +1,7 @@
 package controller;
 
+import controller.metrics.LoopMetrics;
+
 /**
  * This class models a GameLoop.
  */
@@ -26,4 +28,15 @@ public interface GameLoop {
      */
     boolean isRunningLoop();
     
+    /**
+     * Wakes the game up while it is paused, so that it checks the input immediately.
+     */
+    void wakeUp();
+
+    /**
+     * Gets the measures of the durations taken by the game while it runs.
+     * @return the metrics of the loop
+     */
+    LoopMetrics getMetrics();
+    
 }
@@ -0,0 +1,63 @@
+package controller;
+
+import model.level.WorldSnapshot;
+
+/**
+ * This class represents what the view has to draw in a frame:
+ * the last two states published by the game loop and the fraction of step between them.
+ * It's immutable, so the view gets all of them with a single read.
+ */
+public final class RenderFrame {
+
+    private final WorldSnapshot previous;
+    private final WorldSnapshot current;
+    private final double alpha;
+
+    /**
+     * Constructs a frame.
+     *
+     * @param previous
+     *          the state published before the last one
+     * @param current
+     *          the last state published
+     * @param alpha
+     *          the fraction of step elapsed between the two states, where 1 means the last state
+     */
+    public RenderFrame(final WorldSnapshot previous, final WorldSnapshot current, final double alpha) {
+        this.previous = previous;
+        this.current = current;
+        this.alpha = alpha;
+    }
+
+    /**
+     * @return the state published before the last one.
+     */
+    public WorldSnapshot getPrevious() {
+        return this.previous;
+    }
+
+    /**
+     * @return the last state published, the only one the view should draw.
+     */
+    public WorldSnapshot getCurrent() {
+        return this.current;
+    }
+
+    /**
+     * @return the fraction of step elapsed between the two states, between 0 and 1.
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Gets a frame with the same states and a different fraction of step.
+     *
+     * @param alpha
+     *          the new fraction of step
+     * @return the new frame
+     */
+    public RenderFrame withAlpha(final double alpha) {
+        return new RenderFrame(this.previous, this.current, alpha);
+    }
+}
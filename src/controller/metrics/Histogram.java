@@ -0,0 +1,146 @@
+package controller.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations, that can be recorded and read by many threads without locks.
+ * The values are counted in buckets whose width grows with the value:
+ * every power of two is split in {@value #SUB_BUCKETS} buckets,
+ * so a percentile is known with an error lower than 1/{@value #SUB_BUCKETS} of its value.
+ */
+public class Histogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int N_BUCKETS = (Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray buckets;
+    private final AtomicLong count;
+    private final AtomicLong sum;
+    private final AtomicLong max;
+
+    /**
+     * Constructor for an empty Histogram.
+     */
+    public Histogram() {
+        this.buckets = new AtomicLongArray(N_BUCKETS);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * This method records a value. The negative values are recorded as 0.
+     * @param value
+     *          the value to record
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        this.buckets.incrementAndGet(getIndex(v));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(v);
+        this.max.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * @return the number of recorded values.
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * @return the mean of the recorded values, or 0 if there are none.
+     */
+    public double getMean() {
+        final long n = this.count.get();
+        return n == 0 ? 0 : (double) this.sum.get() / n;
+    }
+
+    /**
+     * @return the sum of the recorded values.
+     */
+    public long getSum() {
+        return this.sum.get();
+    }
+
+    /**
+     * @return the greatest recorded value, or 0 if there are none.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * This method gets the value below which the specified percentage of the values falls.
+     * The value is the upper bound of the bucket containing it, but never greater than the maximum.
+     * @param percentile
+     *          the percentage, between 0 and 100
+     * @return the percentile, or 0 if there are no values
+     */
+    public long getPercentile(final double percentile) {
+        final long[] counts = new long[N_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < N_BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(Math.min(PERCENT, Math.max(0, percentile)) / PERCENT * total));
+        long seen = 0;
+        for (int i = 0; i < N_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(getUpperBound(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * This method removes all the values.
+     * The values recorded while it runs can be partially lost.
+     */
+    public void reset() {
+        for (int i = 0; i < N_BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+
+    /**
+     * Gets the bucket of a value.
+     * @param value
+     *          a value not lower than 0
+     * @return the index of the bucket
+     */
+    private static int getIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exp = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the greatest value of a bucket.
+     * @param index
+     *          the index of the bucket
+     * @return the upper bound of the bucket
+     */
+    private static long getUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,51 @@
+package controller.metrics;
+
+/**
+ * This interface models the measures taken by a game loop while it runs.
+ * The durations are in nanoseconds.
+ */
+public interface LoopMetrics {
+
+    /**
+     * This method records a duration.
+     * @param timing
+     *          what was measured
+     * @param nanos
+     *          the duration
+     */
+    void record(Timing timing, long nanos);
+
+    /**
+     * This method counts a step of the model that started later than its deadline by a whole step.
+     */
+    void missedDeadline();
+
+    /**
+     * This method counts the frames that weren't drawn to catch up with the time.
+     * @param frames
+     *          the number of skipped frames
+     */
+    void skippedFrames(int frames);
+
+    /**
+     * @param timing
+     *          what was measured
+     * @return the histogram of the durations.
+     */
+    Histogram getHistogram(Timing timing);
+
+    /**
+     * @return the number of missed deadlines.
+     */
+    long getMissedDeadlines();
+
+    /**
+     * @return the number of skipped frames.
+     */
+    long getSkippedFrames();
+
+    /**
+     * This method removes all the measures.
+     */
+    void reset();
+}
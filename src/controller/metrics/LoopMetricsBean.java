@@ -0,0 +1,107 @@
+package controller.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Implementation of {@link LoopMetricsMXBean}, that publishes the measures of a game loop.
+ */
+public class LoopMetricsBean implements LoopMetricsMXBean {
+
+    private static final String NAME = "bomberman:type=GameLoop";
+    private static final long MICRO = 1000;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+
+    private final LoopMetrics metrics;
+
+    /**
+     * Constructor for LoopMetricsBean.
+     * @param metrics
+     *          the measures to publish
+     */
+    public LoopMetricsBean(final LoopMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * This method publishes the measures of a game loop in the platform MBean server,
+     * replacing the ones of the previous loop.
+     * @param metrics
+     *          the measures to publish
+     */
+    public static void register(final LoopMetrics metrics) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(NAME);
+            synchronized (LoopMetricsBean.class) {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(new LoopMetricsBean(metrics), name);
+            }
+        } catch (JMException e) {
+            System.err.println(e);
+        }
+    }
+
+    @Override
+    public long getTicks() {
+        return this.metrics.getHistogram(Timing.TICK).getCount();
+    }
+
+    @Override
+    public long getMissedDeadlines() {
+        return this.metrics.getMissedDeadlines();
+    }
+
+    @Override
+    public long getSkippedFrames() {
+        return this.metrics.getSkippedFrames();
+    }
+
+    @Override
+    public Map<String, Long> getMedianMicros() {
+        return this.toMicros(h -> h.getPercentile(MEDIAN));
+    }
+
+    @Override
+    public Map<String, Long> getP99Micros() {
+        return this.toMicros(h -> h.getPercentile(P99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxMicros() {
+        return this.toMicros(Histogram::getMax);
+    }
+
+    @Override
+    public long getPercentileMicros(final String timing, final double percentile) {
+        return this.metrics.getHistogram(Timing.valueOf(timing)).getPercentile(percentile) / MICRO;
+    }
+
+    @Override
+    public void reset() {
+        this.metrics.reset();
+    }
+
+    /**
+     * Reads a value of every histogram.
+     * @param value
+     *          the value to read, in nanoseconds
+     * @return the values in microseconds, by name of the timing
+     */
+    private Map<String, Long> toMicros(final ToLongFunction<Histogram> value) {
+        final Map<String, Long> map = new LinkedHashMap<>();
+        for (final Timing t : Timing.values()) {
+            map.put(t.name(), value.applyAsLong(this.metrics.getHistogram(t)) / MICRO);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,66 @@
+package controller.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link LoopMetrics}.
+ * A histogram is kept for each timing, and the counters are atomic,
+ * so the measures can be read while the loop records them.
+ */
+public class LoopMetricsImpl implements LoopMetrics {
+
+    private final Map<Timing, Histogram> histograms;
+    private final AtomicLong missedDeadlines;
+    private final AtomicLong skippedFrames;
+
+    /**
+     * Constructor for LoopMetricsImpl.
+     */
+    public LoopMetricsImpl() {
+        this.histograms = new EnumMap<>(Timing.class);
+        for (final Timing t : Timing.values()) {
+            this.histograms.put(t, new Histogram());
+        }
+        this.missedDeadlines = new AtomicLong();
+        this.skippedFrames = new AtomicLong();
+    }
+
+    @Override
+    public void record(final Timing timing, final long nanos) {
+        this.histograms.get(timing).record(nanos);
+    }
+
+    @Override
+    public void missedDeadline() {
+        this.missedDeadlines.incrementAndGet();
+    }
+
+    @Override
+    public void skippedFrames(final int frames) {
+        this.skippedFrames.addAndGet(frames);
+    }
+
+    @Override
+    public Histogram getHistogram(final Timing timing) {
+        return this.histograms.get(timing);
+    }
+
+    @Override
+    public long getMissedDeadlines() {
+        return this.missedDeadlines.get();
+    }
+
+    @Override
+    public long getSkippedFrames() {
+        return this.skippedFrames.get();
+    }
+
+    @Override
+    public void reset() {
+        this.histograms.values().forEach(Histogram::reset);
+        this.missedDeadlines.set(0);
+        this.skippedFrames.set(0);
+    }
+}
@@ -0,0 +1,55 @@
+package controller.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the measures of the game loop.
+ * The durations are in microseconds, and they are mapped by the name of their {@link Timing}.
+ */
+public interface LoopMetricsMXBean {
+
+    /**
+     * @return the number of steps of the model.
+     */
+    long getTicks();
+
+    /**
+     * @return the number of missed deadlines.
+     */
+    long getMissedDeadlines();
+
+    /**
+     * @return the number of skipped frames.
+     */
+    long getSkippedFrames();
+
+    /**
+     * @return the medians of the durations.
+     */
+    Map<String, Long> getMedianMicros();
+
+    /**
+     * @return the 99th percentiles of the durations.
+     */
+    Map<String, Long> getP99Micros();
+
+    /**
+     * @return the greatest durations.
+     */
+    Map<String, Long> getMaxMicros();
+
+    /**
+     * This method gets a percentile of a duration.
+     * @param timing
+     *          the name of the timing
+     * @param percentile
+     *          the percentage, between 0 and 100
+     * @return the percentile of the duration
+     */
+    long getPercentileMicros(String timing, double percentile);
+
+    /**
+     * This method removes all the measures.
+     */
+    void reset();
+}
@@ -0,0 +1,40 @@
+package controller.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for the transition to the next stage, including its pause.
+ * It is disabled by default: it must be enabled in the settings of the recording.
+ */
+@Name("bomberman.Stage")
+@Label("Stage Transition")
+@Category({ "Bomberman", "Game Loop" })
+@Description("The transition from a stage to the next one")
+@Enabled(false)
+public class StageEvent extends Event {
+
+    @Label("Map Size")
+    @Description("The number of tiles of a side of the new map")
+    int mapSize;
+
+    @Label("Enemies")
+    @Description("The number of enemies of the new stage")
+    int enemies;
+
+    /**
+     * This method sets the fields of the event.
+     * @param mapSize
+     *          the side of the new map
+     * @param enemies
+     *          the number of enemies
+     */
+    public void set(final int mapSize, final int enemies) {
+        this.mapSize = mapSize;
+        this.enemies = enemies;
+    }
+}
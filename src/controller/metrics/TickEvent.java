@@ -0,0 +1,63 @@
+package controller.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for a step of the game loop, with the duration of each phase.
+ * It is disabled by default: it must be enabled in the settings of the recording.
+ */
+@Name("bomberman.Tick")
+@Label("Game Tick")
+@Category({ "Bomberman", "Game Loop" })
+@Description("A step of the model, with the duration of each phase")
+@Enabled(false)
+public class TickEvent extends Event {
+
+    @Label("Tick")
+    @Description("The number of the step since the start of the loop")
+    long tick;
+
+    @Label("Model")
+    @Timespan
+    long model;
+
+    @Label("Snapshot")
+    @Timespan
+    long snapshot;
+
+    @Label("View")
+    @Timespan
+    long view;
+
+    @Label("Drawn")
+    @Description("True if the view was updated in this step")
+    boolean drawn;
+
+    /**
+     * This method sets the fields of the event.
+     * @param tick
+     *          the number of the step
+     * @param model
+     *          the duration of the update of the model
+     * @param snapshot
+     *          the duration of the publication of the state
+     * @param view
+     *          the duration of the update of the view
+     * @param drawn
+     *          true if the view was updated
+     */
+    public void set(final long tick, final long model, final long snapshot, final long view,
+            final boolean drawn) {
+        this.tick = tick;
+        this.model = model;
+        this.snapshot = snapshot;
+        this.view = view;
+        this.drawn = drawn;
+    }
+}
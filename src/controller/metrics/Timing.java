@@ -0,0 +1,37 @@
+package controller.metrics;
+
+/**
+ * The durations measured by the game loop.
+ */
+public enum Timing {
+
+    /**
+     * A whole step of the game, from the update of the model to the update of the view.
+     */
+    TICK,
+
+    /**
+     * The update of the model.
+     */
+    MODEL,
+
+    /**
+     * The publication of the state of the model.
+     */
+    SNAPSHOT,
+
+    /**
+     * The update of the view.
+     */
+    VIEW,
+
+    /**
+     * The update of the state of the game.
+     */
+    GAME_STATE,
+
+    /**
+     * The time between the start of two consecutive updates of the view.
+     */
+    FRAME_INTERVAL;
+}
@@ -0,0 +1,71 @@
+package controller.simulation;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class plays many independent games at the same time, on a {@link ForkJoinPool}.
+ * Every game has its own level and its own input, each made from a seed
+ * that is derived from the seed of the batch, so a batch can be played again
+ * with exactly the same results.
+ * The games don't share any state, so the batch scales with the cores.
+ */
+public final class BatchSimulator {
+
+    private BatchSimulator() {
+    }
+
+    /**
+     * This method plays a batch of games with random bots, using all the cores.
+     * 
+     * @param games
+     *          the number of games
+     * @param seed
+     *          the seed of the batch
+     * @param maxTicks
+     *          the maximum number of ticks of a game
+     * @return the statistics of the games
+     */
+    public static BatchStatistics run(final int games, final long seed, final long maxTicks) {
+        return run(games, seed, maxTicks, RandomBot::new, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This method plays a batch of games.
+     * 
+     * @param games
+     *          the number of games
+     * @param seed
+     *          the seed of the batch
+     * @param maxTicks
+     *          the maximum number of ticks of a game
+     * @param inputs
+     *          creates the input of a game from its seed
+     * @param parallelism
+     *          the number of threads playing the games
+     * @return the statistics of the games
+     */
+    public static BatchStatistics run(final int games, final long seed, final long maxTicks,
+            final LongFunction<InputSource> inputs, final int parallelism) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final long[] levelSeeds = random.longs(games).toArray();
+        final long[] inputSeeds = random.longs(games).toArray();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        final long start = System.nanoTime();
+        try {
+            final List<SimulationResult> results = pool.submit(() -> IntStream.range(0, games).parallel()
+                    .mapToObj(i -> SimulationRunner.run(levelSeeds[i], inputs.apply(inputSeeds[i]), maxTicks))
+                    .collect(Collectors.toList())).get();
+            return new BatchStatistics(results, System.nanoTime() - start);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("The batch of games failed", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package controller.simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The statistics of a batch of games played without display.
+ */
+public final class BatchStatistics {
+
+    private static final double PERCENT = 100.0;
+
+    private final int games;
+    private final long elapsedNanos;
+    private final long ticks;
+    private final Map<SimulationResult.Outcome, Integer> outcomes;
+    private final SortedMap<Integer, Integer> stages;
+    private final int[] scores;
+    private final int[] times;
+
+    /**
+     * Computes the statistics of some games.
+     * 
+     * @param results
+     *          the results of the games
+     * @param elapsedNanos
+     *          the time taken to play all the games, in nanoseconds
+     */
+    public BatchStatistics(final List<SimulationResult> results, final long elapsedNanos) {
+        this.games = results.size();
+        this.elapsedNanos = elapsedNanos;
+        this.outcomes = new EnumMap<>(SimulationResult.Outcome.class);
+        this.stages = new TreeMap<>();
+        this.scores = new int[this.games];
+        this.times = new int[this.games];
+        long nTicks = 0;
+        for (int i = 0; i < this.games; i++) {
+            final SimulationResult r = results.get(i);
+            this.outcomes.merge(r.getOutcome(), 1, Integer::sum);
+            this.stages.merge(r.getStage(), 1, Integer::sum);
+            this.scores[i] = r.getScore();
+            this.times[i] = r.getTime();
+            nTicks += r.getTicks();
+        }
+        this.ticks = nTicks;
+        Arrays.sort(this.scores);
+        Arrays.sort(this.times);
+    }
+
+    /**
+     * @return the number of games.
+     */
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * @return the number of games played in a second.
+     */
+    public double getGamesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.games * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * @return the number of ticks played in a second, by all the games.
+     */
+    public double getTicksPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.ticks * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * @return the number of games for each outcome.
+     */
+    public Map<SimulationResult.Outcome, Integer> getOutcomes() {
+        return Collections.unmodifiableMap(this.outcomes);
+    }
+
+    /**
+     * @return the number of games for each number of stages cleared.
+     */
+    public SortedMap<Integer, Integer> getStages() {
+        return Collections.unmodifiableSortedMap(this.stages);
+    }
+
+    /**
+     * @return the mean of the scores.
+     */
+    public double getMeanScore() {
+        return Arrays.stream(this.scores).average().orElse(0);
+    }
+
+    /**
+     * Gets a percentile of the scores.
+     * 
+     * @param percentile
+     *          the percentage, between 0 and 100
+     * @return the score below which the percentage of the games falls
+     */
+    public int getScorePercentile(final double percentile) {
+        return getPercentile(this.scores, percentile);
+    }
+
+    /**
+     * @return the mean of the seconds survived.
+     */
+    public double getMeanTime() {
+        return Arrays.stream(this.times).average().orElse(0);
+    }
+
+    /**
+     * Gets a percentile of the seconds survived.
+     * 
+     * @param percentile
+     *          the percentage, between 0 and 100
+     * @return the time below which the percentage of the games falls
+     */
+    public int getTimePercentile(final double percentile) {
+        return getPercentile(this.times, percentile);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("BATCH - ")
+                .append(this.games)
+                .append(" games (")
+                .append(String.format("%.1f", this.getGamesPerSecond()))
+                .append(" games/s, ")
+                .append(String.format("%.0f", this.getTicksPerSecond()))
+                .append(" ticks/s)\n\tOutcomes: ")
+                .append(this.outcomes)
+                .append("\n\tStages cleared: ")
+                .append(this.stages)
+                .append("\n\tScore: mean ")
+                .append(String.format("%.1f", this.getMeanScore()))
+                .append(", median ")
+                .append(this.getScorePercentile(50))
+                .append(", p90 ")
+                .append(this.getScorePercentile(90))
+                .append(", max ")
+                .append(this.getScorePercentile(100))
+                .append("\n\tSurvival time: mean ")
+                .append(String.format("%.1f", this.getMeanTime()))
+                .append("s, median ")
+                .append(this.getTimePercentile(50))
+                .append("s, p90 ")
+                .append(this.getTimePercentile(90))
+                .append("s, max ")
+                .append(this.getTimePercentile(100))
+                .append("s")
+                .toString();
+    }
+
+    /**
+     * Gets a percentile of sorted values.
+     * 
+     * @param sorted
+     *          the sorted values
+     * @param percentile
+     *          the percentage, between 0 and 100
+     * @return the percentile, or 0 if there are no values
+     */
+    private static int getPercentile(final int[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(Math.min(PERCENT, Math.max(0, percentile)) / PERCENT * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,119 @@
+package controller.simulation;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import model.units.Tile;
+
+/**
+ * This interface models the rules of a game, that advance a level by fixed ticks
+ * reading the actions of the player from an {@link InputSource}.
+ * It doesn't know anything about the display and the time of the real world:
+ * whoever calls {@link #tick()} decides how fast the game runs.
+ */
+public interface GameSession {
+
+    /**
+     * Initializes the level of the current stage.
+     * 
+     * @param tileDimension
+     *          the dimension of a tile
+     */
+    void start(int tileDimension);
+
+    /**
+     * Advances the game by one tick: moves the enemies and the hero, plants the bombs,
+     * runs the actions whose delay has expired and, every second of game, updates the time.
+     */
+    void tick();
+
+    /**
+     * @return true if the hero has reached the open door, so the stage is cleared.
+     */
+    boolean isStageCleared();
+
+    /**
+     * Cancels the operations waiting for their delay and initializes the level of the next stage.
+     * 
+     * @param tileDimension
+     *          gives the dimension of a tile, once the level knows the size of the next map
+     */
+    void nextStage(IntSupplier tileDimension);
+
+    /**
+     * Runs an action after a certain time of game.
+     * 
+     * @param millis
+     *          the time to wait, in milliseconds
+     * @param action
+     *          the action to run
+     */
+    void schedule(long millis, Runnable action);
+
+    /**
+     * Adds a listener that is notified every time a bomb explodes.
+     * 
+     * @param listener
+     *          the listener of the afflicted tiles
+     */
+    void addExplosionListener(Consumer<Set<Tile>> listener);
+
+    /**
+     * @return true if the game is over, otherwise false.
+     */
+    boolean isOver();
+
+    /**
+     * @return the score of the hero.
+     */
+    int getScore();
+
+    /**
+     * @return the seconds of game elapsed.
+     */
+    int getTime();
+
+    /**
+     * @return the number of stages cleared.
+     */
+    int getStage();
+
+    /**
+     * @return the number of ticks elapsed.
+     */
+    long getTicks();
+
+    /**
+     * Gets a hash of the state of the game: the hash of the level, with {@link model.level.Level#getStateHash()},
+     * the ticks, the time, the stage and the fuses of the bombs.
+     * 
+     * @return the hash of the state
+     */
+    long getStateHash();
+
+    /**
+     * Writes the whole state of the game: the ticks, the time and the stage,
+     * the remaining fuse of the planted bombs and then the level, with {@link model.level.Level#save(ByteBuffer)}.
+     * It must be called between two ticks.
+     * 
+     * @param buffer
+     *          the buffer where to write, from its position
+     */
+    void save(ByteBuffer buffer);
+
+    /**
+     * Restores a state written by {@link #save(ByteBuffer)}, in place.
+     * The actions scheduled with {@link #schedule(long, Runnable)} keep running at their time,
+     * while the bombs of the current state are forgotten and the restored ones explode
+     * when their saved fuse ends.
+     * It must be called between two ticks.
+     * 
+     * @param buffer
+     *          the buffer where to read, from its position
+     * @throws IllegalArgumentException
+     *          if the buffer doesn't contain a state of a game of a known version
+     */
+    void restore(ByteBuffer buffer);
+}
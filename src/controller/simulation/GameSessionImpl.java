@@ -0,0 +1,247 @@
+package controller.simulation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import controller.utilities.TimingWheel;
+import model.level.Level;
+import model.units.Direction;
+import model.units.Hero;
+import model.units.Tile;
+import view.InputAction;
+
+/**
+ * Implementation of {@link GameSession}.
+ * The delayed operations, like the explosions of the bombs, are counted in ticks
+ * by a {@link TimingWheel}, so they follow the speed of the game.
+ * The session remembers the tick when every planted bomb explodes, to save and restore its fuse.
+ * The explosions scheduled before a restore are ignored, because they belong to another state of the game.
+ */
+public class GameSessionImpl implements GameSession {
+
+    private static final int WHEEL_SLOTS = 256;
+    private static final int MILLI = 1000;
+    private static final int SNAPSHOT_MAGIC = 0x424D5353;
+    private static final byte SNAPSHOT_VERSION = 1;
+    private static final long PRIME = 31;
+
+    private final Level level;
+    private final InputSource input;
+    private final int ticksPerSecond;
+    private final TimingWheel wheel;
+    private final List<Consumer<Set<Tile>>> explosionListeners;
+    private final Deque<Long> fuses;
+    private int generation;
+    private boolean isPlanted;
+    private volatile long ticks;
+    private volatile int time;
+    private volatile int stage;
+
+    /**
+     * Constructor for GameSessionImpl.
+     * 
+     * @param level
+     *          the level to play
+     * @param input
+     *          the source of the actions of the player
+     * @param ticksPerSecond
+     *          the number of ticks in a second of game
+     */
+    public GameSessionImpl(final Level level, final InputSource input, final int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid number of ticks per second: " + ticksPerSecond);
+        }
+        this.level = Objects.requireNonNull(level);
+        this.input = Objects.requireNonNull(input);
+        this.ticksPerSecond = ticksPerSecond;
+        this.wheel = new TimingWheel(WHEEL_SLOTS);
+        this.explosionListeners = new CopyOnWriteArrayList<>();
+        this.fuses = new ArrayDeque<>();
+        this.isPlanted = false;
+        this.ticks = 0;
+        this.time = 0;
+        this.stage = 0;
+    }
+
+    @Override
+    public void start(final int tileDimension) {
+        this.level.initLevel(tileDimension);
+    }
+
+    @Override
+    public void tick() {
+        this.input.update(this.ticks);
+        this.level.moveEnemies();
+        final Hero hero = this.level.getHero();
+        if (this.input.isInputActive(InputAction.MOVE_DOWN)) {
+            this.level.moveHero(Direction.DOWN);
+        }
+        if (this.input.isInputActive(InputAction.MOVE_LEFT)) {
+            this.level.moveHero(Direction.LEFT);
+        }
+        if (this.input.isInputActive(InputAction.MOVE_RIGHT)) {
+            this.level.moveHero(Direction.RIGHT);
+        }
+        if (this.input.isInputActive(InputAction.MOVE_UP)) {
+            this.level.moveHero(Direction.UP);
+        }
+        if (!this.input.isInputActive(InputAction.MOVE_DOWN)
+                && !this.input.isInputActive(InputAction.MOVE_LEFT)
+                && !this.input.isInputActive(InputAction.MOVE_RIGHT)
+                && !this.input.isInputActive(InputAction.MOVE_UP)) {
+            hero.setMoving(false);
+        }
+        if (this.input.isInputActive(InputAction.PLANT_BOMB) && !this.isPlanted) {
+            if (hero.canPlantBomb(this.level.getSize()) && hero.getDetonator().hasBombs()) {
+                hero.plantBomb(this.level.getSize());
+                this.light(Math.max(1, hero.getDetonator().getBombDelay() * this.ticksPerSecond / MILLI));
+            }
+            this.isPlanted = true;
+        }
+        if (!this.input.isInputActive(InputAction.PLANT_BOMB)) {
+            this.isPlanted = false;
+        }
+        if (hero.hasKey()) {
+            this.level.setOpenDoor();
+        }
+        this.wheel.tick();
+        this.ticks++;
+        if (this.ticks % this.ticksPerSecond == 0) {
+            this.time++;
+            this.level.setDirectionEnemies();
+        }
+    }
+
+    @Override
+    public boolean isStageCleared() {
+        return this.level.getHero().hasKey()
+                && this.level.getHero().getHeroCollision().openDoorCollision(this.level.getDoor().getHitbox());
+    }
+
+    @Override
+    public void nextStage(final IntSupplier tileDimension) {
+        this.wheel.clear();
+        this.fuses.clear();
+        this.isPlanted = false;
+        this.stage++;
+        this.level.setNextStage();
+        this.level.setTilesNumber();
+        this.level.initLevel(tileDimension.getAsInt());
+    }
+
+    @Override
+    public void schedule(final long millis, final Runnable action) {
+        this.wheel.schedule(millis * this.ticksPerSecond / MILLI, action);
+    }
+
+    @Override
+    public void addExplosionListener(final Consumer<Set<Tile>> listener) {
+        this.explosionListeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public boolean isOver() {
+        return this.level.isGameOver();
+    }
+
+    @Override
+    public int getScore() {
+        return this.level.getHero().getScore();
+    }
+
+    @Override
+    public int getTime() {
+        return this.time;
+    }
+
+    @Override
+    public int getStage() {
+        return this.stage;
+    }
+
+    @Override
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public long getStateHash() {
+        long hash = this.level.getStateHash() ^ this.ticks;
+        hash = hash * PRIME + this.time;
+        hash = hash * PRIME + this.stage;
+        hash = hash * PRIME + (this.isPlanted ? 1 : 0);
+        for (final long end : this.fuses) {
+            hash = hash * PRIME + end;
+        }
+        return hash;
+    }
+
+    @Override
+    public void save(final ByteBuffer buffer) {
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.put(SNAPSHOT_VERSION);
+        buffer.putLong(this.ticks);
+        buffer.putInt(this.time);
+        buffer.putInt(this.stage);
+        buffer.put((byte) (this.isPlanted ? 1 : 0));
+        buffer.putShort((short) this.fuses.size());
+        for (final long end : this.fuses) {
+            buffer.putInt((int) (end - this.ticks));
+        }
+        this.level.save(buffer);
+    }
+
+    @Override
+    public void restore(final ByteBuffer buffer) {
+        if (buffer.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("The buffer doesn't contain a game");
+        }
+        final byte version = buffer.get();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Unknown version of the game: " + version);
+        }
+        this.generation++;
+        this.fuses.clear();
+        this.ticks = buffer.getLong();
+        this.time = buffer.getInt();
+        this.stage = buffer.getInt();
+        this.isPlanted = buffer.get() != 0;
+        final int bombs = buffer.getShort();
+        for (int i = 0; i < bombs; i++) {
+            this.light(buffer.getInt());
+        }
+        this.level.restore(buffer);
+    }
+
+    /**
+     * Schedules the explosion of a bomb just planted or restored.
+     * 
+     * @param fuse
+     *          the number of ticks before the explosion
+     */
+    private void light(final long fuse) {
+        this.fuses.addLast(this.ticks + fuse);
+        final int lit = this.generation;
+        this.wheel.schedule(fuse, () -> {
+            if (lit == this.generation) {
+                this.explode();
+            }
+        });
+    }
+
+    /**
+     * Detonates the first planted bomb and notifies the listeners.
+     */
+    private void explode() {
+        this.fuses.pollFirst();
+        final Set<Tile> tiles = this.level.detonateBomb();
+        this.explosionListeners.forEach(l -> l.accept(tiles));
+    }
+}
@@ -0,0 +1,29 @@
+package controller.simulation;
+
+import view.InputAction;
+
+/**
+ * This interface models where the actions of the player come from:
+ * the keyboard, a script or a program that plays the game.
+ */
+public interface InputSource {
+
+    /**
+     * Checks if the specified action is active in the current tick.
+     * 
+     * @param input
+     *          the action to check
+     * @return true if the action is active, false otherwise
+     */
+    boolean isInputActive(InputAction input);
+
+    /**
+     * This method is called at the beginning of every tick of the game, before reading the actions.
+     * By default it does nothing.
+     * 
+     * @param tick
+     *          the number of the tick, starting from 0
+     */
+    default void update(final long tick) {
+    }
+}
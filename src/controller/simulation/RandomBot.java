@@ -0,0 +1,54 @@
+package controller.simulation;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import view.InputAction;
+
+/**
+ * An {@link InputSource} that plays at random, but always in the same way for the same seed:
+ * it walks in a direction for a while, then it changes direction and sometimes plants a bomb.
+ */
+public class RandomBot implements InputSource {
+
+    private static final int MIN_WALK = 10;
+    private static final int MAX_WALK = 60;
+    private static final double BOMB_PROBABILITY = 0.3;
+    private static final InputAction[] MOVES = {InputAction.MOVE_DOWN, InputAction.MOVE_LEFT,
+        InputAction.MOVE_RIGHT, InputAction.MOVE_UP};
+
+    private final Random random;
+    private final Set<InputAction> actions;
+    private long nextChange;
+
+    /**
+     * Constructs a new RandomBot.
+     * 
+     * @param seed
+     *          the seed of the choices of the bot
+     */
+    public RandomBot(final long seed) {
+        this.random = new Random(seed);
+        this.actions = EnumSet.noneOf(InputAction.class);
+        this.nextChange = 0;
+    }
+
+    @Override
+    public void update(final long tick) {
+        this.actions.remove(InputAction.PLANT_BOMB);
+        if (tick >= this.nextChange) {
+            this.actions.clear();
+            this.actions.add(MOVES[this.random.nextInt(MOVES.length)]);
+            if (this.random.nextDouble() < BOMB_PROBABILITY) {
+                this.actions.add(InputAction.PLANT_BOMB);
+            }
+            this.nextChange = tick + MIN_WALK + this.random.nextInt(MAX_WALK - MIN_WALK);
+        }
+    }
+
+    @Override
+    public boolean isInputActive(final InputAction input) {
+        return this.actions.contains(input);
+    }
+}
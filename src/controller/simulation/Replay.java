@@ -0,0 +1,283 @@
+package controller.simulation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import view.InputAction;
+
+/**
+ * The recording of a game: the seed of the level, whether the enemies chase the hero
+ * and the actions of the player in every tick, that are enough to play the same game again.
+ * The actions of a tick are packed in the bits of a byte, one bit for each {@link InputAction},
+ * and the ticks with the same actions in a row, like the idle ones, are kept as a single run,
+ * both in memory and in the file.
+ * <p>
+ * The file contains, in order: a magic number, the version of the format, the seed,
+ * the ticks per second, a byte that tells if the enemies chase the hero (since version 2), the dimension of the tiles of every stage
+ * and the runs, each one as the byte of the actions and its length in ticks, written in groups of 7 bits.
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x424D5250;
+    private static final int VERSION = 2;
+    private static final int FIRST_CHASE_VERSION = 2;
+    private static final InputAction[] ACTIONS = InputAction.values();
+    private static final int INITIAL_RUNS = 64;
+    private static final int GROUP_BITS = 7;
+    private static final int GROUP_MASK = 0x7F;
+    private static final int MORE_GROUPS = 0x80;
+
+    private final long seed;
+    private final int ticksPerSecond;
+    private final boolean chase;
+    private final List<Integer> tileDimensions;
+    private byte[] actions;
+    private long[] ends;
+    private int runs;
+
+    /**
+     * Constructs an empty replay, where the enemies wander.
+     *
+     * @param seed
+     *          the seed of the level
+     * @param ticksPerSecond
+     *          the number of ticks in a second of the game
+     */
+    public Replay(final long seed, final int ticksPerSecond) {
+        this(seed, ticksPerSecond, false);
+    }
+
+    /**
+     * Constructs an empty replay.
+     *
+     * @param seed
+     *          the seed of the level
+     * @param ticksPerSecond
+     *          the number of ticks in a second of the game
+     * @param chase
+     *          true if the enemies chase the hero, see {@link model.level.Level#setChase(boolean)}
+     */
+    public Replay(final long seed, final int ticksPerSecond, final boolean chase) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid number of ticks per second: " + ticksPerSecond);
+        }
+        this.seed = seed;
+        this.ticksPerSecond = ticksPerSecond;
+        this.chase = chase;
+        this.tileDimensions = new ArrayList<>();
+        this.actions = new byte[INITIAL_RUNS];
+        this.ends = new long[INITIAL_RUNS];
+        this.runs = 0;
+    }
+
+    /**
+     * Packs the actions that are active in a source in the bits of an integer.
+     *
+     * @param input
+     *          the source of the actions
+     * @return the packed actions
+     */
+    public static int pack(final InputSource input) {
+        int packed = 0;
+        for (final InputAction action : ACTIONS) {
+            if (input.isInputActive(action)) {
+                packed |= 1 << action.ordinal();
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Checks if an action is in a set of packed actions.
+     *
+     * @param packed
+     *          the packed actions
+     * @param action
+     *          the action to check
+     * @return true if the action is active, false otherwise
+     */
+    public static boolean isActive(final int packed, final InputAction action) {
+        return (packed & 1 << action.ordinal()) != 0;
+    }
+
+    /**
+     * Adds the actions of the next tick.
+     *
+     * @param packed
+     *          the packed actions of the tick
+     */
+    public void append(final int packed) {
+        if (this.runs > 0 && this.actions[this.runs - 1] == (byte) packed) {
+            this.ends[this.runs - 1]++;
+        } else {
+            this.addRun((byte) packed, this.getTicks() + 1);
+        }
+    }
+
+    /**
+     * Gets the actions of a tick.
+     *
+     * @param tick
+     *          the number of the tick, starting from 0
+     * @return the packed actions, or no action if the tick is outside of the replay
+     */
+    public int getActions(final long tick) {
+        if (tick < 0 || tick >= this.getTicks()) {
+            return 0;
+        }
+        final int run = Arrays.binarySearch(this.ends, 0, this.runs, tick + 1);
+        return this.actions[run >= 0 ? run : -run - 1];
+    }
+
+    /**
+     * Records the dimension of the tiles of the next stage,
+     * that changes the collisions and must be the same to play the stage again.
+     *
+     * @param tileDimension
+     *          the dimension of the tiles
+     */
+    public void addStage(final int tileDimension) {
+        this.tileDimensions.add(tileDimension);
+    }
+
+    /**
+     * Gets the dimension of the tiles of a stage.
+     * The stages after the last one recorded keep its dimension.
+     *
+     * @param stage
+     *          the stage, starting from 0
+     * @return the dimension of the tiles
+     */
+    public int getTileDimension(final int stage) {
+        if (this.tileDimensions.isEmpty()) {
+            throw new IllegalStateException("The replay has no stages");
+        }
+        return this.tileDimensions.get(Math.min(stage, this.tileDimensions.size() - 1));
+    }
+
+    /**
+     * @return the seed of the level.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * @return the number of ticks in a second of the game.
+     */
+    public int getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    /**
+     * @return true if the enemies chase the hero.
+     */
+    public boolean isChase() {
+        return this.chase;
+    }
+
+    /**
+     * @return the number of ticks recorded.
+     */
+    public long getTicks() {
+        return this.runs == 0 ? 0 : this.ends[this.runs - 1];
+    }
+
+    /**
+     * Writes the replay to a stream.
+     *
+     * @param out
+     *          the stream where to write
+     * @throws IOException
+     *          if the stream can't be written
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(this.seed);
+        data.writeInt(this.ticksPerSecond);
+        data.writeBoolean(this.chase);
+        data.writeInt(this.tileDimensions.size());
+        for (final int dimension : this.tileDimensions) {
+            data.writeInt(dimension);
+        }
+        data.writeInt(this.runs);
+        for (int i = 0; i < this.runs; i++) {
+            data.writeByte(this.actions[i]);
+            long length = this.ends[i] - (i == 0 ? 0 : this.ends[i - 1]);
+            while (length > GROUP_MASK) {
+                data.writeByte((int) (length & GROUP_MASK) | MORE_GROUPS);
+                length >>>= GROUP_BITS;
+            }
+            data.writeByte((int) length);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay from a stream.
+     *
+     * @param in
+     *          the stream where to read
+     * @return the replay
+     * @throws IOException
+     *          if the stream can't be read or it doesn't contain a replay
+     */
+    public static Replay read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay");
+        }
+        final int version = data.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported version of the replay: " + version);
+        }
+        final long seed = data.readLong();
+        final int ticksPerSecond = data.readInt();
+        final Replay replay = new Replay(seed, ticksPerSecond,
+                version >= FIRST_CHASE_VERSION && data.readBoolean());
+        final int stages = data.readInt();
+        for (int i = 0; i < stages; i++) {
+            replay.addStage(data.readInt());
+        }
+        final int runs = data.readInt();
+        for (int i = 0; i < runs; i++) {
+            final byte packed = data.readByte();
+            long length = 0;
+            int shift = 0;
+            int group;
+            do {
+                group = data.readUnsignedByte();
+                length |= (long) (group & GROUP_MASK) << shift;
+                shift += GROUP_BITS;
+            } while ((group & MORE_GROUPS) != 0);
+            replay.addRun(packed, replay.getTicks() + length);
+        }
+        return replay;
+    }
+
+    /**
+     * Adds a run of ticks with the same actions.
+     *
+     * @param packed
+     *          the packed actions of the run
+     * @param end
+     *          the tick after the last one of the run
+     */
+    private void addRun(final byte packed, final long end) {
+        if (this.runs == this.actions.length) {
+            this.actions = Arrays.copyOf(this.actions, this.runs * 2);
+            this.ends = Arrays.copyOf(this.ends, this.runs * 2);
+        }
+        this.actions[this.runs] = packed;
+        this.ends[this.runs] = end;
+        this.runs++;
+    }
+}
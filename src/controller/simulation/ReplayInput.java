@@ -0,0 +1,36 @@
+package controller.simulation;
+
+import java.util.Objects;
+
+import view.InputAction;
+
+/**
+ * An {@link InputSource} that plays the actions recorded in a {@link Replay}.
+ * After the end of the replay no action is active.
+ */
+public class ReplayInput implements InputSource {
+
+    private final Replay replay;
+    private int actions;
+
+    /**
+     * Constructs a new ReplayInput.
+     *
+     * @param replay
+     *          the replay to play
+     */
+    public ReplayInput(final Replay replay) {
+        this.replay = Objects.requireNonNull(replay);
+        this.actions = 0;
+    }
+
+    @Override
+    public void update(final long tick) {
+        this.actions = this.replay.getActions(tick);
+    }
+
+    @Override
+    public boolean isInputActive(final InputAction input) {
+        return Replay.isActive(this.actions, input);
+    }
+}
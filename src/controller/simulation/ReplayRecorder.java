@@ -0,0 +1,51 @@
+package controller.simulation;
+
+import java.util.Objects;
+
+import view.InputAction;
+
+/**
+ * An {@link InputSource} that records the actions of another source in a {@link Replay}.
+ * The actions are read from the source once, at the beginning of the tick,
+ * and the tick sees exactly the actions that are recorded,
+ * even if the source changes them while the tick is running.
+ */
+public class ReplayRecorder implements InputSource {
+
+    private final InputSource source;
+    private final Replay replay;
+    private int actions;
+
+    /**
+     * Constructs a new ReplayRecorder.
+     *
+     * @param source
+     *          the source of the actions to record
+     * @param replay
+     *          the replay where to record them
+     */
+    public ReplayRecorder(final InputSource source, final Replay replay) {
+        this.source = Objects.requireNonNull(source);
+        this.replay = Objects.requireNonNull(replay);
+        this.actions = 0;
+    }
+
+    @Override
+    public void update(final long tick) {
+        this.source.update(tick);
+        this.actions = Replay.pack(this.source);
+        this.replay.append(this.actions);
+    }
+
+    @Override
+    public boolean isInputActive(final InputAction input) {
+        return Replay.isActive(this.actions, input);
+    }
+
+    /**
+     * @return the replay where the actions are recorded.
+     */
+    public Replay getReplay() {
+        return this.replay;
+    }
+}
@@ -0,0 +1,369 @@
+package controller.simulation;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A ring buffer with the states of the last ticks of a {@link GameSession},
+ * that allows to bring the game back to any of them.
+ * The states are written with {@link GameSession#save(ByteBuffer)}: a state every
+ * so many ticks is kept whole, while the others keep only the bytes that differ from the previous one.
+ * The buffer has a fixed number of slots, so its memory doesn't grow with the length of the game:
+ * when it's full, the oldest states are dropped, together with the differences that need them.
+ */
+public class RewindBuffer {
+
+    private static final int INITIAL_STATE = 4096;
+    private static final int GROUP_BITS = 7;
+    private static final int GROUP_MASK = 0x7F;
+    private static final int MORE_GROUPS = 0x80;
+    private static final int VARINT_BYTES = 5;
+
+    private final GameSession session;
+    private final int keyframeInterval;
+    private final byte[][] entries;
+    private final int[] lengths;
+    private final boolean[] keyframes;
+    private byte[] previous;
+    private int previousLength;
+    private byte[] current;
+    private byte[] delta;
+    private long oldest;
+    private int count;
+
+    /**
+     * Constructs an empty RewindBuffer.
+     *
+     * @param session
+     *          the game to record
+     * @param capacity
+     *          the number of ticks to keep
+     * @param keyframeInterval
+     *          the number of ticks between two whole states
+     */
+    public RewindBuffer(final GameSession session, final int capacity, final int keyframeInterval) {
+        if (capacity <= 0 || keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Invalid size: " + capacity + ", " + keyframeInterval);
+        }
+        this.session = Objects.requireNonNull(session);
+        this.keyframeInterval = keyframeInterval;
+        this.entries = new byte[capacity][];
+        this.lengths = new int[capacity];
+        this.keyframes = new boolean[capacity];
+        this.previous = new byte[INITIAL_STATE];
+        this.current = new byte[INITIAL_STATE];
+        this.delta = new byte[0];
+        this.clear();
+    }
+
+    /**
+     * This method records the state of the game after a tick.
+     * If the tick doesn't follow the last one recorded, the buffer starts again from this tick.
+     */
+    public void record() {
+        final long tick = this.session.getTicks();
+        if (this.count > 0 && tick != this.getNewestTick() + 1) {
+            this.clear();
+        }
+        final int length = this.save();
+        if (this.count == this.entries.length) {
+            this.dropOldest();
+        }
+        if (this.count == 0) {
+            this.oldest = tick;
+        }
+        final int slot = this.getSlot(tick);
+        final boolean keyframe = this.count == 0 || tick % this.keyframeInterval == 0;
+        if (keyframe) {
+            this.store(slot, this.current, length);
+        } else {
+            final int deltaLength = this.encode(length);
+            this.store(slot, this.delta, deltaLength);
+        }
+        this.keyframes[slot] = keyframe;
+        this.count++;
+        final byte[] swap = this.previous;
+        this.previous = this.current;
+        this.previousLength = length;
+        this.current = swap;
+    }
+
+    /**
+     * This method brings the game back to the state it had after the specified tick.
+     * The ticks recorded after it are dropped, and the following ones are recorded in their place.
+     *
+     * @param tick
+     *          the tick to go back to, between {@link #getOldestTick()} and {@link #getNewestTick()}
+     * @throws IllegalArgumentException
+     *          if the tick isn't in the buffer
+     */
+    public void rewind(final long tick) {
+        final int length = this.decode(tick);
+        this.session.restore(ByteBuffer.wrap(this.current, 0, length));
+        this.count = (int) (tick - this.oldest + 1);
+        final byte[] swap = this.previous;
+        this.previous = this.current;
+        this.previousLength = length;
+        this.current = swap;
+    }
+
+    /**
+     * This method brings the game back by one tick, if it's possible.
+     *
+     * @return true if the game went back, false if there are no older ticks
+     */
+    public boolean stepBack() {
+        if (this.count < 2) {
+            return false;
+        }
+        this.rewind(this.getNewestTick() - 1);
+        return true;
+    }
+
+    /**
+     * Gets the state of the game after the specified tick, without restoring it.
+     * It allows to compare two games that should be equal.
+     *
+     * @param tick
+     *          the tick, between {@link #getOldestTick()} and {@link #getNewestTick()}
+     * @return a read-only buffer with the state written by {@link GameSession#save(ByteBuffer)}
+     * @throws IllegalArgumentException
+     *          if the tick isn't in the buffer
+     */
+    public ByteBuffer getState(final long tick) {
+        final int length = this.decode(tick);
+        return ByteBuffer.wrap(Arrays.copyOf(this.current, length)).asReadOnlyBuffer();
+    }
+
+    /**
+     * This method drops all the recorded ticks.
+     */
+    public final void clear() {
+        this.count = 0;
+        this.oldest = 0;
+        this.previousLength = 0;
+    }
+
+    /**
+     * @return the oldest tick the game can go back to, or -1 if the buffer is empty.
+     */
+    public long getOldestTick() {
+        return this.count == 0 ? -1 : this.oldest;
+    }
+
+    /**
+     * @return the last tick recorded, or -1 if the buffer is empty.
+     */
+    public long getNewestTick() {
+        return this.count == 0 ? -1 : this.oldest + this.count - 1;
+    }
+
+    /**
+     * @return the number of bytes used by the recorded states.
+     */
+    public long getSize() {
+        long size = 0;
+        for (int i = 0; i < this.count; i++) {
+            size += this.lengths[this.getSlot(this.oldest + i)];
+        }
+        return size;
+    }
+
+    /**
+     * Writes the state of the game in the current array, making it greater if it's too small.
+     *
+     * @return the length of the state
+     */
+    private int save() {
+        while (true) {
+            final ByteBuffer buffer = ByteBuffer.wrap(this.current);
+            try {
+                this.session.save(buffer);
+                return buffer.position();
+            } catch (final BufferOverflowException e) {
+                this.current = new byte[this.current.length * 2];
+            }
+        }
+    }
+
+    /**
+     * Drops the oldest tick and the following ones until the next whole state,
+     * because they can't be rebuilt without it.
+     */
+    private void dropOldest() {
+        do {
+            this.oldest++;
+            this.count--;
+        } while (this.count > 0 && !this.keyframes[this.getSlot(this.oldest)]);
+    }
+
+    /**
+     * Writes the differences between the previous state and the current one in the delta array:
+     * the length of the current state, then pairs of bytes to keep and bytes to change,
+     * followed by the changed bytes.
+     *
+     * @param length
+     *          the length of the current state
+     * @return the length of the differences
+     */
+    private int encode(final int length) {
+        if (this.delta.length < length * 2 + VARINT_BYTES * 2) {
+            this.delta = new byte[length * 2 + VARINT_BYTES * 2];
+        }
+        int out = writeVarint(this.delta, 0, length);
+        int i = 0;
+        while (i < length) {
+            final int start = i;
+            while (i < length && i < this.previousLength && this.current[i] == this.previous[i]) {
+                i++;
+            }
+            out = writeVarint(this.delta, out, i - start);
+            final int changed = i;
+            while (i < length && (i >= this.previousLength || this.current[i] != this.previous[i])) {
+                i++;
+            }
+            out = writeVarint(this.delta, out, i - changed);
+            System.arraycopy(this.current, changed, this.delta, out, i - changed);
+            out += i - changed;
+        }
+        return out;
+    }
+
+    /**
+     * Rebuilds the state of a tick in the current array,
+     * starting from the last whole state before it.
+     *
+     * @param tick
+     *          the tick
+     * @return the length of the state
+     */
+    private int decode(final long tick) {
+        if (this.count == 0 || tick < this.oldest || tick > this.getNewestTick()) {
+            throw new IllegalArgumentException("The tick " + tick + " isn't in the buffer");
+        }
+        long keyframe = tick;
+        while (!this.keyframes[this.getSlot(keyframe)]) {
+            keyframe--;
+        }
+        final int slot = this.getSlot(keyframe);
+        this.ensureCurrent(this.lengths[slot]);
+        System.arraycopy(this.entries[slot], 0, this.current, 0, this.lengths[slot]);
+        int length = this.lengths[slot];
+        for (long t = keyframe + 1; t <= tick; t++) {
+            length = this.apply(this.entries[this.getSlot(t)], this.lengths[this.getSlot(t)]);
+        }
+        return length;
+    }
+
+    /**
+     * Applies the differences written by {@link #encode(int)} to the current array.
+     *
+     * @param entry
+     *          the differences
+     * @param entryLength
+     *          the length of the differences
+     * @return the length of the new state
+     */
+    private int apply(final byte[] entry, final int entryLength) {
+        final int[] in = {0};
+        final int length = readVarint(entry, in);
+        this.ensureCurrent(length);
+        int i = 0;
+        while (in[0] < entryLength) {
+            i += readVarint(entry, in);
+            final int changed = readVarint(entry, in);
+            System.arraycopy(entry, in[0], this.current, i, changed);
+            in[0] += changed;
+            i += changed;
+        }
+        return length;
+    }
+
+    /**
+     * Copies some bytes in a slot, making its array greater if it's too small.
+     *
+     * @param slot
+     *          the slot
+     * @param data
+     *          the bytes to copy
+     * @param length
+     *          the number of bytes
+     */
+    private void store(final int slot, final byte[] data, final int length) {
+        if (this.entries[slot] == null || this.entries[slot].length < length) {
+            this.entries[slot] = new byte[length];
+        }
+        System.arraycopy(data, 0, this.entries[slot], 0, length);
+        this.lengths[slot] = length;
+    }
+
+    /**
+     * Makes the current array greater, keeping its content, if it's too small.
+     *
+     * @param length
+     *          the length needed
+     */
+    private void ensureCurrent(final int length) {
+        if (this.current.length < length) {
+            this.current = Arrays.copyOf(this.current, Math.max(length, this.current.length * 2));
+        }
+    }
+
+    /**
+     * Gets the slot of a tick: the ticks follow one another in the slots, going back to the first one.
+     *
+     * @param tick
+     *          the tick
+     * @return the slot
+     */
+    private int getSlot(final long tick) {
+        return (int) (tick % this.entries.length);
+    }
+
+    /**
+     * Writes a non-negative number in groups of seven bits, the lowest first,
+     * where the highest bit of a byte tells that another group follows.
+     *
+     * @param data
+     *          the array where to write
+     * @param position
+     *          the index of the first byte to write
+     * @param value
+     *          the number
+     * @return the index after the last byte written
+     */
+    private static int writeVarint(final byte[] data, final int position, final int value) {
+        int out = position;
+        int rest = value;
+        while (rest > GROUP_MASK) {
+            data[out++] = (byte) (rest & GROUP_MASK | MORE_GROUPS);
+            rest >>>= GROUP_BITS;
+        }
+        data[out++] = (byte) rest;
+        return out;
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarint(byte[], int, int)}.
+     *
+     * @param data
+     *          the array where to read
+     * @param position
+     *          a single element with the index of the first byte to read,
+     *          that is moved after the last byte read
+     * @return the number
+     */
+    private static int readVarint(final byte[] data, final int[] position) {
+        int value = 0;
+        int shift = 0;
+        int group;
+        do {
+            group = data[position[0]++] & 0xFF;
+            value |= (group & GROUP_MASK) << shift;
+            shift += GROUP_BITS;
+        } while ((group & MORE_GROUPS) != 0);
+        return value;
+    }
+}
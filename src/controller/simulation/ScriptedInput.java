@@ -0,0 +1,38 @@
+package controller.simulation;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import view.InputAction;
+
+/**
+ * An {@link InputSource} that takes the actions of every tick from a script.
+ */
+public class ScriptedInput implements InputSource {
+
+    private final LongFunction<Set<InputAction>> script;
+    private Set<InputAction> actions;
+
+    /**
+     * Constructs a new ScriptedInput.
+     * 
+     * @param script
+     *          the function that gives the active actions of a tick
+     */
+    public ScriptedInput(final LongFunction<Set<InputAction>> script) {
+        this.script = Objects.requireNonNull(script);
+        this.actions = Collections.emptySet();
+    }
+
+    @Override
+    public void update(final long tick) {
+        this.actions = this.script.apply(tick);
+    }
+
+    @Override
+    public boolean isInputActive(final InputAction input) {
+        return this.actions.contains(input);
+    }
+}
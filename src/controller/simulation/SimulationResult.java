@@ -0,0 +1,99 @@
+package controller.simulation;
+
+/**
+ * The result of a game played without display.
+ */
+public final class SimulationResult {
+
+    /**
+     * How a simulated game ended.
+     */
+    public enum Outcome {
+        /**
+         * The hero died.
+         */
+        GAME_OVER,
+        /**
+         * The game reached the maximum number of ticks.
+         */
+        TIME_LIMIT;
+    }
+
+    private final Outcome outcome;
+    private final int score;
+    private final int time;
+    private final int stage;
+    private final long ticks;
+
+    /**
+     * Constructor for SimulationResult.
+     * 
+     * @param outcome
+     *          how the game ended
+     * @param score
+     *          the score of the hero
+     * @param time
+     *          the seconds of game elapsed
+     * @param stage
+     *          the number of stages cleared
+     * @param ticks
+     *          the number of ticks elapsed
+     */
+    public SimulationResult(final Outcome outcome, final int score, final int time, final int stage, final long ticks) {
+        this.outcome = outcome;
+        this.score = score;
+        this.time = time;
+        this.stage = stage;
+        this.ticks = ticks;
+    }
+
+    /**
+     * @return how the game ended.
+     */
+    public Outcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return the score of the hero.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * @return the seconds of game elapsed.
+     */
+    public int getTime() {
+        return this.time;
+    }
+
+    /**
+     * @return the number of stages cleared.
+     */
+    public int getStage() {
+        return this.stage;
+    }
+
+    /**
+     * @return the number of ticks elapsed.
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("SIMULATION - ")
+                .append(this.outcome)
+                .append(", score: ")
+                .append(this.score)
+                .append(", time: ")
+                .append(this.time)
+                .append("s, stages cleared: ")
+                .append(this.stage)
+                .append(", ticks: ")
+                .append(this.ticks)
+                .toString();
+    }
+}
@@ -0,0 +1,145 @@
+package controller.simulation;
+
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.LongStream;
+
+import model.level.Level;
+import model.level.LevelImpl;
+
+/**
+ * This class plays games without any display, as fast as possible:
+ * the ticks follow one another without waiting, and a stage follows the previous one without pauses.
+ */
+public final class SimulationRunner {
+
+    /**
+     * The number of ticks in a second of a simulated game, the same of the game with a display.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * The dimension of the tiles of a simulated game.
+     */
+    public static final int TILE_DIMENSION = 32;
+
+    private SimulationRunner() {
+    }
+
+    /**
+     * This method plays a game on a new level.
+     * 
+     * @param input
+     *          the source of the actions of the player
+     * @param maxTicks
+     *          the maximum number of ticks to play
+     * @return the result of the game
+     */
+    public static SimulationResult run(final InputSource input, final long maxTicks) {
+        return run(new LevelImpl(), input, maxTicks);
+    }
+
+    /**
+     * This method plays a game on a new level generated by the specified seed.
+     * The same seed and the same input always play the same game.
+     * 
+     * @param seed
+     *          the seed of the level
+     * @param input
+     *          the source of the actions of the player
+     * @param maxTicks
+     *          the maximum number of ticks to play
+     * @return the result of the game
+     */
+    public static SimulationResult run(final long seed, final InputSource input, final long maxTicks) {
+        return run(new LevelImpl(seed), input, maxTicks);
+    }
+
+    /**
+     * This method plays a game on the specified level, from its first stage.
+     * 
+     * @param level
+     *          the level to play
+     * @param input
+     *          the source of the actions of the player
+     * @param maxTicks
+     *          the maximum number of ticks to play
+     * @return the result of the game
+     */
+    public static SimulationResult run(final Level level, final InputSource input, final long maxTicks) {
+        return play(level, input, maxTicks, TICKS_PER_SECOND, stage -> TILE_DIMENSION, s -> { });
+    }
+
+    /**
+     * This method plays a game on a new level generated by the specified seed
+     * and takes the hash of its state after every tick.
+     * Two traces of the same seed and input must be equal: if they aren't,
+     * {@link #findDivergence(long[], long[])} tells where they differ.
+     * 
+     * @param seed
+     *          the seed of the level
+     * @param input
+     *          the source of the actions of the player
+     * @param maxTicks
+     *          the maximum number of ticks to play
+     * @return the hashes of the states, one for every tick played
+     */
+    public static long[] trace(final long seed, final InputSource input, final long maxTicks) {
+        final LongStream.Builder hashes = LongStream.builder();
+        play(new LevelImpl(seed), input, maxTicks, TICKS_PER_SECOND, stage -> TILE_DIMENSION,
+                s -> hashes.add(s.getStateHash()));
+        return hashes.build().toArray();
+    }
+
+    /**
+     * This method compares two traces of states.
+     * 
+     * @param first
+     *          the first trace
+     * @param second
+     *          the second trace
+     * @return the first tick whose states differ, or -1 if the traces are equal
+     */
+    public static long findDivergence(final long[] first, final long[] second) {
+        final int length = Math.min(first.length, second.length);
+        for (int i = 0; i < length; i++) {
+            if (first[i] != second[i]) {
+                return i + 1;
+            }
+        }
+        return first.length == second.length ? -1 : length + 1;
+    }
+
+    /**
+     * This method plays a recorded game again, with its seed, its actions, its dimensions of the tiles
+     * and the behavior of its enemies.
+     * It ends when the game is over or the recorded ticks end.
+     * 
+     * @param replay
+     *          the game to play
+     * @return the result of the game
+     */
+    public static SimulationResult run(final Replay replay) {
+        final Level level = new LevelImpl(replay.getSeed());
+        level.setChase(replay.isChase());
+        return play(level, new ReplayInput(replay), replay.getTicks(),
+                replay.getTicksPerSecond(), replay::getTileDimension, s -> { });
+    }
+
+    private static SimulationResult play(final Level level, final InputSource input, final long maxTicks,
+            final int ticksPerSecond, final IntUnaryOperator tileDimension, final Consumer<GameSession> afterTick) {
+        level.setFirstStage();
+        final GameSession session = new GameSessionImpl(level, input, ticksPerSecond);
+        session.start(tileDimension.applyAsInt(0));
+        while (!session.isOver() && session.getTicks() < maxTicks) {
+            session.tick();
+            if (!session.isOver() && session.isStageCleared()) {
+                session.nextStage(() -> tileDimension.applyAsInt(session.getStage()));
+            }
+            afterTick.accept(session);
+        }
+        return new SimulationResult(session.isOver() ? SimulationResult.Outcome.GAME_OVER
+                : SimulationResult.Outcome.TIME_LIMIT, session.getScore(), session.getTime(),
+                session.getStage(), session.getTicks());
+    }
+}
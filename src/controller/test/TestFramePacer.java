@@ -0,0 +1,42 @@
+package controller.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import controller.utilities.FramePacer;
+
+/**
+ * This class is used to test the correct operation of the frame pacer.
+ * How late the pacer wakes up depends on the machine, so it's measured by {@link main.PacerBenchmark}.
+ */
+public class TestFramePacer {
+
+    private static final long FRAME = 1000000L;
+    private static final int FRAMES = 5;
+
+    /**
+     * This test verifies that the pacer never wakes up before a deadline,
+     * that it doesn't wait for a deadline already passed and that the spin stays between its limits.
+     */
+    @Test
+    public void testDeadlines() {
+        final FramePacer pacer = new FramePacer();
+        checkSpin(pacer);
+        long deadline = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            deadline += FRAME;
+            pacer.waitUntil(deadline);
+            final long late = System.nanoTime() - deadline;
+            Assert.assertTrue("Woke up " + -late + " ns early", late >= 0);
+            checkSpin(pacer);
+        }
+        final long spin = pacer.getSpin();
+        pacer.waitUntil(deadline - FRAME);
+        Assert.assertEquals(pacer.getSpin(), spin);
+    }
+
+    private static void checkSpin(final FramePacer pacer) {
+        Assert.assertTrue("Spin: " + pacer.getSpin() + " ns", pacer.getSpin() >= FramePacer.MIN_SPIN
+                && pacer.getSpin() <= FramePacer.MAX_SPIN);
+    }
+}
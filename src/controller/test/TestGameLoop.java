@@ -125,11 +125,6 @@ public class TestGameLoop {
             //do nothing
         }
 
-        @Override
-        public void updateEnemies() {
-            //do nothing
-        }
-
         @Override
         public void updateTime() {
             //do nothing
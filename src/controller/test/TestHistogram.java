@@ -0,0 +1,39 @@
+package controller.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import controller.metrics.Histogram;
+
+/**
+ * This class is used to test the correct operation of the histograms of the metrics.
+ */
+public class TestHistogram {
+
+    private static final int N_VALUES = 1000;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private static final double ERROR = 0.125;
+
+    /**
+     * This test verifies that the percentiles are close to the recorded values.
+     */
+    @Test
+    public void testPercentiles() {
+        final Histogram histogram = new Histogram();
+        Assert.assertEquals(histogram.getPercentile(MEDIAN), 0);
+        for (int i = 1; i <= N_VALUES; i++) {
+            histogram.record(i * N_VALUES);
+        }
+        Assert.assertEquals(histogram.getCount(), N_VALUES);
+        Assert.assertEquals(histogram.getMax(), N_VALUES * N_VALUES);
+        final long median = histogram.getPercentile(MEDIAN);
+        Assert.assertTrue(median >= N_VALUES * N_VALUES / 2 && median <= N_VALUES * N_VALUES / 2 * (1 + ERROR));
+        final long p99 = histogram.getPercentile(P99);
+        Assert.assertTrue(p99 >= N_VALUES * (N_VALUES - 10) && p99 <= N_VALUES * N_VALUES);
+        Assert.assertEquals(histogram.getPercentile(100), N_VALUES * N_VALUES);
+        histogram.reset();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getPercentile(P99), 0);
+    }
+}
@@ -0,0 +1,165 @@
+package controller.test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import controller.simulation.GameSession;
+import controller.simulation.GameSessionImpl;
+import controller.simulation.RewindBuffer;
+import controller.simulation.ScriptedInput;
+import controller.simulation.SimulationRunner;
+import model.level.Level;
+import model.level.LevelImpl;
+import model.units.Hero;
+import model.units.enemy.Enemy;
+import view.InputAction;
+
+/**
+ * This class is used to test the ring buffer of the last states of a game.
+ */
+public class TestRewindBuffer {
+
+    private static final long SEED = 123;
+    private static final int STEP = 90;
+    private static final int CAPACITY = 300;
+    private static final int KEYFRAME = 60;
+    private static final int TICKS = 1000;
+    private static final int BACK = 250;
+    private static final int SNAPSHOT_SIZE = 16 * 1024;
+    private static final int[] TARGETS = {1, 37, 113, BACK};
+    private static final int RESTORE_SEEDS = 8;
+    private static final long IDENTITY_SEED = 7;
+    private static final int IDENTITY_TICK = 100;
+    private static final int IDENTITY_END = 300;
+    private static final InputAction[] MOVES = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN,
+        InputAction.MOVE_LEFT, InputAction.MOVE_UP};
+
+    /**
+     * This test verifies that the game goes back to the recorded states and then goes on in the same way,
+     * and that the buffer keeps only the last ticks.
+     */
+    @Test
+    public void testRewind() {
+        final GameSession session = createSession(SEED);
+        final RewindBuffer buffer = new RewindBuffer(session, CAPACITY, KEYFRAME);
+        ByteBuffer past = null;
+        while (session.getTicks() < TICKS) {
+            session.tick();
+            buffer.record();
+            if (session.getTicks() == TICKS - BACK) {
+                past = save(session);
+            }
+        }
+        final ByteBuffer last = save(session);
+        Assert.assertEquals(buffer.getNewestTick(), TICKS);
+        Assert.assertTrue(buffer.getOldestTick() > TICKS - CAPACITY);
+        Assert.assertTrue(buffer.getOldestTick() <= TICKS - CAPACITY + KEYFRAME);
+        Assert.assertEquals(buffer.getState(TICKS), last);
+        Assert.assertEquals(buffer.getState(TICKS - BACK), past);
+
+        buffer.rewind(TICKS - BACK);
+        Assert.assertEquals(session.getTicks(), TICKS - BACK);
+        Assert.assertEquals(save(session), past);
+        Assert.assertEquals(buffer.getNewestTick(), TICKS - BACK);
+        while (session.getTicks() < TICKS) {
+            session.tick();
+            buffer.record();
+        }
+        Assert.assertEquals(save(session), last);
+        Assert.assertTrue(buffer.stepBack());
+        Assert.assertEquals(session.getTicks(), TICKS - 1);
+        try {
+            buffer.rewind(0);
+            Assert.fail("The first tick should be dropped");
+        } catch (final IllegalArgumentException e) {
+            Assert.assertNotNull(e);
+        }
+    }
+
+    /**
+     * This test verifies that the game goes on in the same way after going back to many different ticks,
+     * whole states or differences, in several levels.
+     */
+    @Test
+    public void testRewindTargets() {
+        for (long seed = 1; seed <= RESTORE_SEEDS; seed++) {
+            final GameSession session = createSession(seed);
+            final RewindBuffer buffer = new RewindBuffer(session, CAPACITY, KEYFRAME);
+            while (!session.isOver() && session.getTicks() < TICKS) {
+                session.tick();
+                buffer.record();
+            }
+            final long end = session.getTicks();
+            final ByteBuffer last = save(session);
+            final long[] targets = new long[TARGETS.length + 1];
+            for (int i = 0; i < TARGETS.length; i++) {
+                targets[i] = Math.max(buffer.getOldestTick(), end - TARGETS[i]);
+            }
+            targets[TARGETS.length] = buffer.getOldestTick();
+            for (final long target : targets) {
+                buffer.rewind(target);
+                while (session.getTicks() < end) {
+                    session.tick();
+                    buffer.record();
+                }
+                Assert.assertEquals("Seed " + seed + ", back to " + target, last, save(session));
+            }
+        }
+    }
+
+    /**
+     * This test verifies that going back keeps the same hero and enemies,
+     * also the ones killed after the tick of the rewind, so that the views don't see them die again.
+     */
+    @Test
+    public void testRewindIdentity() {
+        final Level level = new LevelImpl(IDENTITY_SEED);
+        final GameSession session = createSession(level);
+        final RewindBuffer buffer = new RewindBuffer(session, CAPACITY, KEYFRAME);
+        Hero hero = null;
+        List<Enemy> enemies = null;
+        while (session.getTicks() < IDENTITY_END) {
+            session.tick();
+            buffer.record();
+            if (session.getTicks() == IDENTITY_TICK) {
+                hero = level.getHero();
+                enemies = new ArrayList<>(level.getEnemies());
+            }
+        }
+        Assert.assertTrue("An enemy should die after the rewind tick", level.getEnemies().size() < enemies.size());
+        buffer.rewind(IDENTITY_TICK);
+        Assert.assertSame(hero, level.getHero());
+        Assert.assertEquals(new HashSet<>(enemies), level.getEnemies());
+        final Iterator<Enemy> restored = level.getEnemies().iterator();
+        for (final Enemy enemy : enemies) {
+            Assert.assertSame(enemy, restored.next());
+        }
+        Assert.assertFalse(restored.hasNext());
+    }
+
+    private static GameSession createSession(final long seed) {
+        return createSession(new LevelImpl(seed));
+    }
+
+    private static GameSession createSession(final Level level) {
+        final GameSession session = new GameSessionImpl(level, new ScriptedInput(t -> t % STEP == 0
+                ? EnumSet.of(InputAction.PLANT_BOMB) : EnumSet.of(MOVES[(int) (t / STEP % MOVES.length)])),
+                SimulationRunner.TICKS_PER_SECOND);
+        session.start(SimulationRunner.TILE_DIMENSION);
+        return session;
+    }
+
+    private static ByteBuffer save(final GameSession session) {
+        final ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        session.save(buffer);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,409 @@
+package controller.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import controller.simulation.GameSession;
+import controller.simulation.GameSessionImpl;
+import controller.simulation.InputSource;
+import controller.simulation.RandomBot;
+import controller.simulation.Replay;
+import controller.simulation.ReplayRecorder;
+import controller.simulation.ScriptedInput;
+import controller.simulation.SimulationResult;
+import controller.simulation.SimulationRunner;
+import model.level.GameMap;
+import model.level.Level;
+import model.level.LevelImpl;
+import model.level.WorldSnapshot;
+import model.units.Hero;
+import model.units.Tile;
+import model.units.TileType;
+import model.units.enemy.Enemy;
+import view.InputAction;
+
+/**
+ * This class is used to test the games played without display.
+ */
+public class TestSimulation {
+
+    private static final long MAX_TICKS = 3600;
+    private static final int STEP = 30;
+    private static final long SEED = 42;
+    private static final int SNAPSHOT_SIZE = 16 * 1024;
+    private static final int SAVE_TICK = 500;
+    private static final long RESTORE_SEED = 123;
+    private static final int BOMB_STEP = 90;
+    private static final int RESTORE_SEEDS = 20;
+    private static final long[] SAVE_TICKS = {137, 411, 777};
+    private static final int TRACE_TICKS = 300;
+    private static final int TURN_STEP = 23;
+    private static final int PLANT_STEP = 45;
+    private static final long CHASE_SEED = 29;
+    private static final long TILE_SEED = 1;
+    private static final int TILE_TICKS = 500;
+
+    /**
+     * This test verifies that a game runs until the hero dies or the ticks end, keeping the time of the game.
+     */
+    @Test
+    public void testRun() {
+        final SimulationResult idle = SimulationRunner.run(new ScriptedInput(t -> Collections.emptySet()), MAX_TICKS);
+        checkResult(idle);
+        final InputAction[] moves = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN, InputAction.MOVE_LEFT, InputAction.MOVE_UP};
+        final SimulationResult active = SimulationRunner.run(new ScriptedInput(t -> t % STEP == 0
+                ? EnumSet.of(InputAction.PLANT_BOMB) : EnumSet.of(moves[(int) (t / STEP % moves.length)])), MAX_TICKS);
+        checkResult(active);
+    }
+
+    /**
+     * This test verifies that a seed generates always the same level and, with the same input, the same game.
+     */
+    @Test
+    public void testSeed() {
+        final Level first = new LevelImpl(SEED);
+        final Level second = new LevelImpl(SEED);
+        first.initLevel(SimulationRunner.TILE_DIMENSION);
+        second.initLevel(SimulationRunner.TILE_DIMENSION);
+        Assert.assertEquals(first.getSize(), second.getSize());
+        Assert.assertEquals(first.getDoor().getPosition(), second.getDoor().getPosition());
+        Assert.assertEquals(getTypes(first), getTypes(second));
+        Assert.assertEquals(first.getEnemies().stream().map(e -> e.getPosition()).collect(Collectors.toList()),
+                second.getEnemies().stream().map(e -> e.getPosition()).collect(Collectors.toList()));
+
+        final String game = SimulationRunner.run(SEED, new RandomBot(SEED), MAX_TICKS).toString();
+        Assert.assertEquals(game, SimulationRunner.run(SEED, new RandomBot(SEED), MAX_TICKS).toString());
+    }
+
+    /**
+     * This test verifies that a recorded game, written and read again, is played in the same way
+     * and that its file takes less than a byte per tick.
+     * @throws IOException
+     *          if the replay can't be written or read
+     */
+    @Test
+    public void testReplay() throws IOException {
+        final Replay replay = new Replay(SEED, SimulationRunner.TICKS_PER_SECOND);
+        replay.addStage(SimulationRunner.TILE_DIMENSION);
+        final SimulationResult game = SimulationRunner.run(SEED, new ReplayRecorder(new RandomBot(SEED), replay),
+                MAX_TICKS);
+        Assert.assertEquals(replay.getTicks(), game.getTicks());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        Assert.assertTrue(out.size() < replay.getTicks());
+        final Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+        Assert.assertEquals(read.getTicks(), replay.getTicks());
+        for (long t = 0; t < replay.getTicks(); t++) {
+            Assert.assertEquals(read.getActions(t), replay.getActions(t));
+        }
+        Assert.assertEquals(SimulationRunner.run(read).toString(), game.toString());
+    }
+
+    /**
+     * This test verifies that a restored game, with its planted bombs and its random source,
+     * goes on exactly like the saved one, both in the same session and in a new one,
+     * and that the same session keeps its hero.
+     */
+    @Test
+    public void testSaveRestore() {
+        final InputAction[] moves = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN, InputAction.MOVE_LEFT, InputAction.MOVE_UP};
+        final InputSource input = new ScriptedInput(t -> t % BOMB_STEP == 0
+                ? EnumSet.of(InputAction.PLANT_BOMB) : EnumSet.of(moves[(int) (t / BOMB_STEP % moves.length)]));
+        final Level level = new LevelImpl(RESTORE_SEED);
+        final GameSession session = new GameSessionImpl(level, input, SimulationRunner.TICKS_PER_SECOND);
+        session.start(SimulationRunner.TILE_DIMENSION);
+        playUntil(session, SAVE_TICK);
+        final ByteBuffer saved = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        session.save(saved);
+        saved.flip();
+
+        playUntil(session, MAX_TICKS);
+        final ByteBuffer first = save(session);
+        final Hero hero = level.getHero();
+        session.restore(saved.duplicate());
+        Assert.assertSame(hero, level.getHero());
+        Assert.assertEquals(session.getTicks(), SAVE_TICK);
+        Assert.assertFalse(session.isOver());
+        playUntil(session, MAX_TICKS);
+        Assert.assertEquals(first, save(session));
+
+        final GameSession other = new GameSessionImpl(new LevelImpl(SEED), input, SimulationRunner.TICKS_PER_SECOND);
+        other.start(SimulationRunner.TILE_DIMENSION);
+        other.restore(saved.duplicate());
+        playUntil(other, MAX_TICKS);
+        Assert.assertEquals(first, save(other));
+        Assert.assertEquals(session.getStateHash(), other.getStateHash());
+    }
+
+    /**
+     * This test verifies that a game restored in a new session has the same states, tick after tick,
+     * of the saved one, with many levels and saving at different moments.
+     */
+    @Test
+    public void testRestoreTrace() {
+        final InputAction[] moves = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN, InputAction.MOVE_LEFT, InputAction.MOVE_UP};
+        final InputSource input = new ScriptedInput(t -> t % PLANT_STEP == 0
+                ? EnumSet.of(InputAction.PLANT_BOMB) : EnumSet.of(moves[(int) (t / TURN_STEP % moves.length)]));
+        for (long seed = 1; seed <= RESTORE_SEEDS; seed++) {
+            for (final long tick : SAVE_TICKS) {
+                final GameSession session = new GameSessionImpl(new LevelImpl(seed), input,
+                        SimulationRunner.TICKS_PER_SECOND);
+                session.start(SimulationRunner.TILE_DIMENSION);
+                playUntil(session, tick);
+                if (session.isOver()) {
+                    continue;
+                }
+                final ByteBuffer saved = save(session);
+                final long[] expected = trace(session, tick + TRACE_TICKS);
+                final GameSession other = new GameSessionImpl(new LevelImpl(SEED), input,
+                        SimulationRunner.TICKS_PER_SECOND);
+                other.start(SimulationRunner.TILE_DIMENSION);
+                other.restore(saved);
+                Assert.assertEquals("Seed " + seed + ", saved at " + tick, -1,
+                        SimulationRunner.findDivergence(expected, trace(other, tick + TRACE_TICKS)));
+            }
+        }
+    }
+
+    /**
+     * This test verifies that the hashes of the states are the same in two equal games
+     * and that they tell the first tick where two games differ.
+     */
+    @Test
+    public void testStateHash() {
+        final long[] first = SimulationRunner.trace(SEED, new RandomBot(SEED), MAX_TICKS);
+        Assert.assertEquals(SimulationRunner.findDivergence(first,
+                SimulationRunner.trace(SEED, new RandomBot(SEED), MAX_TICKS)), -1);
+        final long[] idle = SimulationRunner.trace(SEED, new ScriptedInput(t -> Collections.emptySet()), STEP * 2);
+        final long[] bomb = SimulationRunner.trace(SEED, new ScriptedInput(t -> t == STEP
+                ? EnumSet.of(InputAction.PLANT_BOMB) : Collections.emptySet()), STEP * 2);
+        Assert.assertEquals(SimulationRunner.findDivergence(idle, bomb), STEP + 1);
+    }
+
+    /**
+     * This test verifies that two levels with the same types and entities,
+     * but with the powerups in different places, have different hashes.
+     */
+    @Test
+    public void testPowerUpHash() {
+        final Level level = new LevelImpl(SEED);
+        level.initLevel(SimulationRunner.TILE_DIMENSION);
+        final ByteBuffer saved = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        level.save(saved);
+        saved.flip();
+        final MapLevel other = new MapLevel(SEED);
+        other.restore(saved.duplicate());
+        Assert.assertEquals(level.getStateHash(), other.getStateHash());
+
+        // Moves a powerup to another cell of the same type
+        final GameMap map = other.getGameMap();
+        final int size = map.getSize();
+        final int from = IntStream.range(0, size * size).filter(i -> map.getPowerup(i / size, i % size).isPresent())
+                .findFirst().getAsInt();
+        final TileType type = map.getType(from / size, from % size);
+        final int to = IntStream.range(0, size * size).filter(i -> map.getType(i / size, i % size) == type
+                && !map.getPowerup(i / size, i % size).isPresent()).findFirst().getAsInt();
+        map.setPowerup(to / size, to % size, map.getPowerup(from / size, from % size));
+        map.setPowerup(from / size, from % size, Optional.empty());
+        Assert.assertNotEquals(level.getStateHash(), other.getStateHash());
+        other.restore(saved.duplicate());
+        Assert.assertEquals(level.getStateHash(), other.getStateHash());
+    }
+
+    /**
+     * This test verifies that the enemies that chase the hero reach him along the shortest path,
+     * that the setting changes the hash of the level and that a replay keeps it.
+     * @throws IOException
+     *          if the replay can't be written or read
+     */
+    @Test
+    public void testChase() throws IOException {
+        final Level level = new LevelImpl(CHASE_SEED);
+        level.setChase(true);
+        level.initLevel(SimulationRunner.TILE_DIMENSION);
+        final int start = getClosestEnemy(level);
+        Assert.assertTrue(start > SimulationRunner.TILE_DIMENSION);
+        // An enemy moves a pixel per tick, so the shortest path takes exactly the distance in ticks
+        for (int t = 0; t < start - SimulationRunner.TILE_DIMENSION; t++) {
+            level.moveEnemies();
+        }
+        Assert.assertEquals(getClosestEnemy(level), SimulationRunner.TILE_DIMENSION);
+        final long hash = level.getStateHash();
+        level.setChase(false);
+        Assert.assertNotEquals(hash, level.getStateHash());
+
+        final Replay replay = new Replay(CHASE_SEED, SimulationRunner.TICKS_PER_SECOND, true);
+        replay.addStage(SimulationRunner.TILE_DIMENSION);
+        final Level recorded = new LevelImpl(CHASE_SEED);
+        recorded.setChase(true);
+        final SimulationResult game = SimulationRunner.run(recorded, new ReplayRecorder(new RandomBot(CHASE_SEED),
+                replay), MAX_TICKS);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        final Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+        Assert.assertTrue(read.isChase());
+        Assert.assertEquals(SimulationRunner.run(read).toString(), game.toString());
+    }
+
+    private static void playUntil(final GameSession session, final long ticks) {
+        while (!session.isOver() && session.getTicks() < ticks) {
+            session.tick();
+            if (!session.isOver() && session.isStageCleared()) {
+                session.nextStage(() -> SimulationRunner.TILE_DIMENSION);
+            }
+        }
+    }
+
+    /**
+     * This test verifies that the level notifies every change of the tiles made by the game:
+     * the rubbles destroyed by the bombs, the powerups taken by the hero and the door opened.
+     * A new map, for a new stage or for a restore that can't reuse the map, isn't notified,
+     * but it changes the id of the map in the snapshots.
+     */
+    @Test
+    public void testTileListener() {
+        final InputAction[] moves = {InputAction.MOVE_RIGHT, InputAction.MOVE_DOWN, InputAction.MOVE_LEFT, InputAction.MOVE_UP};
+        final Level level = new LevelImpl(TILE_SEED);
+        final GameSession session = new GameSessionImpl(level, new ScriptedInput(t -> t % BOMB_STEP == 0
+                ? EnumSet.of(InputAction.PLANT_BOMB) : EnumSet.of(moves[(int) (t / BOMB_STEP % moves.length)])),
+                SimulationRunner.TICKS_PER_SECOND);
+        session.start(SimulationRunner.TILE_DIMENSION);
+        final int size = level.getSize();
+        final TileType[] types = getTileTypes(level.takeSnapshot(), size);
+        final List<String> changes = new ArrayList<>();
+        level.addTileListener(c -> {
+            final int cell = c.getRow() * size + c.getColumn();
+            Assert.assertEquals(types[cell], c.getOldType());
+            types[cell] = c.getNewType();
+            changes.add(c.getOldType() + " " + c.getNewType());
+        });
+        while (session.getTicks() < TILE_TICKS) {
+            session.tick();
+            Assert.assertArrayEquals(getTileTypes(level.takeSnapshot(), size), types);
+        }
+        Assert.assertTrue(changes.contains(TileType.RUBBLE + " " + TileType.POWERUP_STATUS));
+        Assert.assertTrue(changes.contains(TileType.POWERUP_STATUS + " " + TileType.WALKABLE));
+        level.setOpenDoor();
+        Assert.assertEquals(changes.get(changes.size() - 1), TileType.DOOR_CLOSED + " " + TileType.DOOR_OPENED);
+        Assert.assertArrayEquals(getTileTypes(level.takeSnapshot(), size), types);
+
+        final ByteBuffer saved = save(session);
+        final int map = level.takeSnapshot().getMapId();
+        final int notified = changes.size();
+        session.nextStage(() -> SimulationRunner.TILE_DIMENSION);
+        Assert.assertEquals(changes.size(), notified);
+        Assert.assertNotEquals(level.takeSnapshot().getMapId(), map);
+
+        final Level other = new LevelImpl(TILE_SEED);
+        other.initLevel(SimulationRunner.TILE_DIMENSION * 2);
+        final int otherMap = other.takeSnapshot().getMapId();
+        other.addTileListener(c -> Assert.fail("A new map shouldn't be notified"));
+        new GameSessionImpl(other, new ScriptedInput(t -> Collections.emptySet()),
+                SimulationRunner.TICKS_PER_SECOND).restore(saved);
+        Assert.assertNotEquals(other.takeSnapshot().getMapId(), otherMap);
+    }
+
+    /**
+     * This test verifies that the tiles of the level can't be changed
+     * and that only the tiles that change are taken again.
+     */
+    @Test
+    public void testTileStates() {
+        final Level level = new LevelImpl(TILE_SEED);
+        level.initLevel(SimulationRunner.TILE_DIMENSION);
+        final Set<Tile> before = Collections.newSetFromMap(new IdentityHashMap<>());
+        before.addAll(level.getTiles());
+        level.setOpenDoor();
+        final List<Tile> changed = level.getTiles().stream().filter(t -> !before.contains(t)).collect(Collectors.toList());
+        Assert.assertEquals(changed.size(), 1);
+        Assert.assertEquals(changed.get(0).getType(), TileType.DOOR_OPENED);
+        Assert.assertEquals(changed.get(0).getPosition(), level.getDoor().getPosition());
+        try {
+            changed.get(0).setType(TileType.WALKABLE);
+            Assert.fail("The tiles of the level shouldn't change");
+        } catch (final UnsupportedOperationException e) {
+            Assert.assertNotNull(e);
+        }
+    }
+
+    private static TileType[] getTileTypes(final WorldSnapshot world, final int size) {
+        final TileType[] types = new TileType[size * size];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = world.getTileType(i / size, i % size);
+        }
+        return types;
+    }
+
+    private static long[] trace(final GameSession session, final long ticks) {
+        final LongStream.Builder hashes = LongStream.builder();
+        while (!session.isOver() && session.getTicks() < ticks) {
+            session.tick();
+            if (!session.isOver() && session.isStageCleared()) {
+                session.nextStage(() -> SimulationRunner.TILE_DIMENSION);
+            }
+            hashes.add(session.getStateHash());
+        }
+        return hashes.build().toArray();
+    }
+
+    private static ByteBuffer save(final GameSession session) {
+        final ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        session.save(buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int getClosestEnemy(final Level level) {
+        int closest = Integer.MAX_VALUE;
+        for (final Enemy enemy : level.getEnemies()) {
+            closest = Math.min(closest, Math.abs(enemy.getX() - level.getHero().getX())
+                    + Math.abs(enemy.getY() - level.getHero().getY()));
+        }
+        return closest;
+    }
+
+    private static Map<String, String> getTypes(final Level level) {
+        return level.getTiles().stream().collect(Collectors.toMap(t -> t.getPosition().toString(),
+                t -> t.getType() + " " + t.getPowerup()));
+    }
+
+    private static void checkResult(final SimulationResult result) {
+        Assert.assertTrue(result.getTicks() <= MAX_TICKS);
+        Assert.assertEquals(result.getTime(), result.getTicks() / SimulationRunner.TICKS_PER_SECOND);
+        if (result.getOutcome() == SimulationResult.Outcome.TIME_LIMIT) {
+            Assert.assertEquals(result.getTicks(), MAX_TICKS);
+        }
+    }
+
+    /**
+     * A level that lets the tests change its map directly.
+     */
+    private static final class MapLevel extends LevelImpl {
+
+        MapLevel(final long seed) {
+            super(seed);
+        }
+
+        @Override
+        protected GameMap getGameMap() {
+            return super.getGameMap();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package controller.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import controller.utilities.TimingWheel;
+
+/**
+ * This class is used to test the correct operation of the timing wheel.
+ */
+public class TestTimingWheel {
+
+    private static final int SLOTS = 8;
+    private static final int LONG_DELAY = 20;
+
+    /**
+     * This test verifies that the actions run after their delay, even longer than a turn.
+     */
+    @Test
+    public void testSchedule() {
+        final TimingWheel wheel = new TimingWheel(SLOTS);
+        final List<Integer> fired = new ArrayList<>();
+        wheel.schedule(3, () -> fired.add(3));
+        wheel.schedule(LONG_DELAY, () -> fired.add(LONG_DELAY));
+        wheel.schedule(0, () -> fired.add(0));
+        Assert.assertEquals(wheel.size(), 3);
+        for (int i = 1; i <= LONG_DELAY; i++) {
+            wheel.tick();
+            if (i == 1) {
+                Assert.assertEquals(fired.size(), 1);
+            }
+            if (i == 3) {
+                Assert.assertEquals(fired.size(), 2);
+            }
+            if (i == LONG_DELAY - 1) {
+                Assert.assertEquals(fired.size(), 2);
+            }
+        }
+        Assert.assertEquals(fired.get(2).intValue(), LONG_DELAY);
+        Assert.assertEquals(wheel.size(), 0);
+    }
+
+    /**
+     * This test verifies the actions scheduled by other actions and the removal of all the actions.
+     */
+    @Test
+    public void testChainAndClear() {
+        final TimingWheel wheel = new TimingWheel(SLOTS);
+        final List<String> fired = new ArrayList<>();
+        wheel.schedule(1, () -> {
+            fired.add("bomb");
+            wheel.schedule(1, () -> fired.add("explosion"));
+        });
+        wheel.tick();
+        Assert.assertEquals(fired.size(), 1);
+        wheel.tick();
+        Assert.assertEquals(fired.size(), 2);
+        wheel.schedule(2, () -> fired.add("cancelled"));
+        wheel.clear();
+        wheel.tick();
+        wheel.tick();
+        Assert.assertEquals(fired.size(), 2);
+        Assert.assertEquals(wheel.size(), 0);
+    }
+}
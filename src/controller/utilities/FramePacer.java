@@ -0,0 +1,78 @@
+package controller.utilities;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class waits for the deadlines of the frames with a precision well under a millisecond.
+ * The thread is parked until the deadline is close, then it spins for the last part of the wait,
+ * because a parked thread can wake up later than requested.
+ * The length of the spin is calibrated when the pacer is created, measuring how late
+ * the parked thread wakes up, and it follows the delays measured during the waits.
+ * All the times are values of {@link System#nanoTime()}.
+ */
+public class FramePacer {
+
+    /**
+     * The shortest spin, in nanoseconds.
+     */
+    public static final long MIN_SPIN = 50000;
+
+    /**
+     * The longest spin, in nanoseconds.
+     */
+    public static final long MAX_SPIN = 2000000;
+
+    private static final long CALIBRATION_PARK = 500000;
+    private static final int CALIBRATION_ROUNDS = 5;
+    private static final int DECAY = 16;
+
+    private long spin;
+
+    /**
+     * Constructor for FramePacer.
+     * It parks the current thread a few times to calibrate the spin.
+     */
+    public FramePacer() {
+        this.spin = MIN_SPIN;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            this.park(CALIBRATION_PARK);
+        }
+    }
+
+    /**
+     * This method waits until the specified time.
+     * It returns immediately if the time has already passed.
+     * @param deadline
+     *          the time to wait for
+     */
+    public void waitUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > this.spin) {
+            this.park(remaining - this.spin);
+            remaining = deadline - System.nanoTime();
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent spinning before a deadline.
+     */
+    public long getSpin() {
+        return this.spin;
+    }
+
+    /**
+     * Parks the current thread and adjusts the spin to the delay of the wake up:
+     * a greater delay is taken at once, a smaller one slowly.
+     * @param nanos
+     *          the time to park
+     */
+    private void park(final long nanos) {
+        final long start = System.nanoTime();
+        LockSupport.parkNanos(nanos);
+        final long late = Math.max(MIN_SPIN, Math.min(MAX_SPIN, System.nanoTime() - start - nanos));
+        this.spin = late > this.spin ? late : this.spin - (this.spin - late) / DECAY;
+    }
+}
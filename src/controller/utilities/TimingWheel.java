@@ -0,0 +1,112 @@
+package controller.utilities;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A hashed timing wheel: it runs some actions after a certain number of ticks.
+ * The wheel doesn't have its own thread, it is advanced by whoever calls {@link #tick()},
+ * so the actions run on that thread.
+ * Each slot of the wheel contains the actions that expire when the wheel reaches it,
+ * with the number of full turns still to wait.
+ */
+public class TimingWheel {
+
+    private final List<List<Task>> slots;
+    private int current;
+    private int size;
+
+    /**
+     * Constructor for TimingWheel.
+     * @param nSlots
+     *          the number of slots of the wheel
+     */
+    public TimingWheel(final int nSlots) {
+        if (nSlots <= 0) {
+            throw new IllegalArgumentException("Invalid number of slots: " + nSlots);
+        }
+        this.slots = new ArrayList<>(nSlots);
+        for (int i = 0; i < nSlots; i++) {
+            this.slots.add(new LinkedList<>());
+        }
+        this.current = 0;
+        this.size = 0;
+    }
+
+    /**
+     * This method schedules an action after a certain number of ticks.
+     * An action with a delay lower than one tick runs at the next tick.
+     * @param ticks
+     *          the number of ticks to wait
+     * @param action
+     *          the action to run
+     */
+    public synchronized void schedule(final long ticks, final Runnable action) {
+        final long delay = Math.max(1, ticks);
+        final int nSlots = this.slots.size();
+        final int slot = (int) ((this.current + delay) % nSlots);
+        this.slots.get(slot).add(new Task((delay - 1) / nSlots, action));
+        this.size++;
+    }
+
+    /**
+     * This method advances the wheel by one tick and runs the expired actions.
+     * The actions scheduled while running them wait at least for the next tick.
+     */
+    public void tick() {
+        final List<Runnable> expired = new LinkedList<>();
+        synchronized (this) {
+            this.current = (this.current + 1) % this.slots.size();
+            final Iterator<Task> iterator = this.slots.get(this.current).iterator();
+            while (iterator.hasNext()) {
+                final Task task = iterator.next();
+                if (task.rounds == 0) {
+                    expired.add(task.action);
+                    iterator.remove();
+                    this.size--;
+                } else {
+                    task.rounds--;
+                }
+            }
+        }
+        expired.forEach(Runnable::run);
+    }
+
+    /**
+     * This method removes all the actions without running them.
+     */
+    public synchronized void clear() {
+        this.slots.forEach(List::clear);
+        this.size = 0;
+    }
+
+    /**
+     * @return the number of actions waiting to run.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * An action in a slot of the wheel.
+     */
+    private static class Task {
+
+        private long rounds;
+        private final Runnable action;
+
+        /**
+         * Constructor for Task.
+         * @param rounds
+         *          the number of full turns of the wheel to wait
+         * @param action
+         *          the action to run
+         */
+        Task(final long rounds, final Runnable action) {
+            this.rounds = rounds;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package main;
+
+import controller.utilities.FramePacer;
+
+/**
+ * The launcher of a measure of the frame pacer.
+ * It waits for the deadlines of some frames and prints how late the pacer woke up.
+ */
+public final class PacerBenchmark {
+
+    private static final int FRAMES = 600;
+    private static final int RATE = 60;
+    private static final long SECOND = 1000000000L;
+    private static final double MICRO = 1000.0;
+
+    private PacerBenchmark() { }
+
+    /**
+     * The entry point for the measure.
+     * 
+     * @param args
+     *          optionally the number of frames and the frames per second
+     */
+    public static void main(final String... args) {
+        final int frames = args.length > 0 ? Integer.parseInt(args[0]) : FRAMES;
+        final int rate = args.length > 1 ? Integer.parseInt(args[1]) : RATE;
+        final FramePacer pacer = new FramePacer();
+        long deadline = System.nanoTime();
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < frames; i++) {
+            deadline += SECOND / rate;
+            pacer.waitUntil(deadline);
+            final long late = System.nanoTime() - deadline;
+            total += late;
+            max = Math.max(max, late);
+        }
+        System.out.println(String.format("Frames %d at %d FPS, delay: average %.1f us, max %.1f us, spin %.1f us",
+                frames, rate, total / frames / MICRO, max / MICRO, pacer.getSpin() / MICRO));
+    }
+}
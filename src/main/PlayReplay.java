@@ -0,0 +1,46 @@
+package main;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import controller.simulation.Replay;
+import controller.simulation.SimulationResult;
+import controller.simulation.SimulationRunner;
+
+/**
+ * The launcher that plays a recorded game again, without display and as fast as possible.
+ * It prints the result of the game and how long it took.
+ */
+public final class PlayReplay {
+
+    private static final double SECOND = 1000000000.0;
+
+    private PlayReplay() { }
+
+    /**
+     * The entry point for the replay.
+     *
+     * @param args
+     *          the file of the replay
+     * @throws IOException
+     *          if the file can't be read
+     */
+    public static void main(final String... args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: PlayReplay <replay file>");
+            return;
+        }
+        final Replay replay;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]))) {
+            replay = Replay.read(in);
+        }
+        final long start = System.nanoTime();
+        final SimulationResult result = SimulationRunner.run(replay);
+        final double seconds = (System.nanoTime() - start) / SECOND;
+        System.out.println(result);
+        System.out.println(String.format("%d ticks in %.3f s (%.0f ticks/s)", result.getTicks(), seconds,
+                result.getTicks() / seconds));
+    }
+}
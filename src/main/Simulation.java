@@ -0,0 +1,29 @@
+package main;
+
+import controller.simulation.BatchSimulator;
+
+/**
+ * The launcher of a batch of games played by bots, without display.
+ * It prints the statistics of the games.
+ */
+public final class Simulation {
+
+    private static final int GAMES = 1000;
+    private static final long SEED = 42;
+    private static final long MAX_TICKS = 60 * 60 * 5;
+
+    private Simulation() { }
+
+    /**
+     * The entry point for the simulation.
+     * 
+     * @param args
+     *          optionally the number of games, the seed of the batch and the maximum ticks of a game
+     */
+    public static void main(final String... args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : SEED;
+        final long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : MAX_TICKS;
+        System.out.println(BatchSimulator.run(games, seed, maxTicks));
+    }
+}
@@ -24,9 +24,10 @@ public class TileFactory {
     
     private final int rows;
     private final int columns;
+    private final Random random;
 
     /**
-     * Constructs a TileFactory.
+     * Constructs a TileFactory with its own random source.
      * 
      * @param rows
      *          the number of rows
@@ -34,8 +35,23 @@ public class TileFactory {
      *          the number of columns
      */
     public TileFactory(final int rows, final int columns) {
+        this(rows, columns, new Random());
+    }
+
+    /**
+     * Constructs a TileFactory.
+     * 
+     * @param rows
+     *          the number of rows
+     * @param columns
+     *          the number of columns
+     * @param random
+     *          the random source that chooses the tiles
+     */
+    public TileFactory(final int rows, final int columns, final Random random) {
         this.rows = rows;
         this.columns = columns;
+        this.random = random;
     }
 
     /**
@@ -70,7 +86,7 @@ public class TileFactory {
     private TileType getTypeForCoordinates(final int row, final int column) {
         if (this.tileIsConcrete(row, column)) {
             return TileType.CONCRETE;
-        } else if (Math.random() < BLOCK_DENSITY && !MapPoint.isEntryPoint(row, column)) {
+        } else if (this.random.nextDouble() < BLOCK_DENSITY && !MapPoint.isEntryPoint(row, column)) {
             return TileType.RUBBLE;
         } else {
             return TileType.WALKABLE;
@@ -101,7 +117,7 @@ public class TileFactory {
      *           because a block might not have a powerup
      */
     private Optional<PowerUpType> getPowerup(final TileType type) {
-        if (!type.equals(TileType.RUBBLE) || Math.random() < POWERUP_DENSITY) {
+        if (!type.equals(TileType.RUBBLE) || this.random.nextDouble() < POWERUP_DENSITY) {
             return Optional.empty();
         } else {
                 return Optional.of(this.selectType());
@@ -116,7 +132,7 @@ public class TileFactory {
     private PowerUpType selectType() {
         PowerUpType type = PowerUpType.KEY;
         while (type.equals(PowerUpType.KEY)) {
-            type = PowerUpType.values()[new Random().nextInt(PowerUpType.values().length)];
+            type = PowerUpType.values()[this.random.nextInt(PowerUpType.values().length)];
         }
         return type;
     } 
@@ -128,7 +144,7 @@ public class TileFactory {
      *          the set of walkable tiles
      */
     public void setDoor(final Set<Tile> walkableTiles) {
-        walkableTiles.stream().findAny().get().setType(TileType.DOOR_CLOSED);
+        this.pick(walkableTiles).setType(TileType.DOOR_CLOSED);
     }
 
     /**
@@ -138,6 +154,17 @@ public class TileFactory {
      *          the set of rubbles tiles
      */
     public void setKey(final Set<Tile> rubbleTiles) {
-        rubbleTiles.stream().findAny().get().setKeyPowerUp();
+        this.pick(rubbleTiles).setKeyPowerUp();
+    }
+
+    /**
+     * Picks a random tile of a set, following the iteration order of the set.
+     * 
+     * @param tiles
+     *          the set of tiles
+     * @return the chosen tile
+     */
+    private Tile pick(final Set<Tile> tiles) {
+        return tiles.stream().skip(this.random.nextInt(tiles.size())).findFirst().get();
     }
 }
@@ -0,0 +1,29 @@
+package model.level;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for the explosion of a bomb.
+ * It is disabled by default: it must be enabled in the settings of the recording.
+ */
+@Name("bomberman.Detonation")
+@Label("Bomb Detonation")
+@Category({ "Bomberman", "Model" })
+@Description("The explosion of a bomb and its effects")
+@Enabled(false)
+class DetonationEvent extends Event {
+
+    @Label("Afflicted Tiles")
+    int afflictedTiles;
+
+    @Label("Killed Enemies")
+    int killedEnemies;
+
+    @Label("Hero Hit")
+    boolean heroHit;
+}
@@ -0,0 +1,179 @@
+package model.level;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.Random;
+
+import model.units.Bomb;
+import model.units.Detonator;
+import model.units.Direction;
+import model.units.Entity;
+import model.units.Hero;
+import model.units.HeroImpl;
+import model.units.enemy.Enemy;
+import model.units.enemy.EnemyImpl;
+import model.units.enemy.EnemyType;
+
+/**
+ * This class writes the hero and the enemies in a buffer and reads them again from it.
+ * The saved state is read into existing entities, through their public methods,
+ * so that whoever holds them keeps seeing the same objects after a restore;
+ * new entities are created only when there isn't a suitable one.
+ */
+final class EntityCodec {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final EnemyType[] ENEMY_TYPES = EnemyType.values();
+    private static final int MOVING = 1;
+    private static final int CONFUSION = 2;
+    private static final int KEY = 4;
+
+    private EntityCodec() { }
+
+    /**
+     * Writes the hero, with its detonator and its planted bombs.
+     *
+     * @param buffer
+     *          the buffer where to write
+     * @param hero
+     *          the hero
+     */
+    static void writeHero(final ByteBuffer buffer, final Hero hero) {
+        writeEntity(buffer, hero);
+        buffer.put((byte) ((hero.isMoving() ? MOVING : 0) | (hero.isConfused() ? CONFUSION : 0)
+                | (hero.hasKey() ? KEY : 0)));
+        buffer.putInt(hero.getScore());
+        final Detonator detonator = hero.getDetonator();
+        buffer.putShort((short) detonator.getActualRange());
+        buffer.putShort((short) detonator.getActualBombs());
+        buffer.putShort((short) detonator.getPlantedBombs().size());
+        for (final Bomb bomb : detonator.getPlantedBombs()) {
+            buffer.putInt(bomb.getX());
+            buffer.putInt(bomb.getY());
+            buffer.putShort((short) bomb.getRange());
+        }
+    }
+
+    /**
+     * Reads the hero written by {@link #writeHero(ByteBuffer, Hero)} into an existing hero.
+     *
+     * @param buffer
+     *          the buffer where to read
+     * @param hero
+     *          the hero to change
+     */
+    static void readHero(final ByteBuffer buffer, final Hero hero) {
+        readEntity(buffer, hero);
+        final int flags = buffer.get();
+        hero.setMoving((flags & MOVING) != 0);
+        hero.setConfusion((flags & CONFUSION) != 0);
+        if ((flags & KEY) != 0) {
+            hero.setKey();
+        } else {
+            hero.removeKey();
+        }
+        hero.increaseScore(buffer.getInt() - hero.getScore());
+        final Detonator detonator = hero.getDetonator();
+        detonator.clear();
+        final int range = buffer.getShort();
+        final int bombs = buffer.getShort();
+        final int planted = buffer.getShort();
+        for (int i = 0; i < planted; i++) {
+            final Point bomb = new Point(buffer.getInt(), buffer.getInt());
+            // The range of a bomb is the range of the detonator when it was planted, that never decreases
+            final int bombRange = buffer.getShort();
+            while (detonator.getActualRange() < bombRange) {
+                detonator.increaseRange();
+            }
+            detonator.plantBomb(bomb);
+        }
+        while (detonator.getActualRange() < range) {
+            detonator.increaseRange();
+        }
+        while (detonator.getActualBombs() < bombs) {
+            detonator.increaseBombs();
+        }
+    }
+
+    /**
+     * Creates a hero that can be changed by {@link #readHero(ByteBuffer, Hero)}.
+     *
+     * @param tileDimension
+     *          the dimension of the tiles
+     * @param random
+     *          the random source of the level
+     * @return the hero
+     */
+    static Hero createHero(final int tileDimension, final Random random) {
+        return new HeroImpl(new Point(), new Dimension(tileDimension, tileDimension), random);
+    }
+
+    /**
+     * Writes an enemy.
+     *
+     * @param buffer
+     *          the buffer where to write
+     * @param enemy
+     *          the enemy
+     */
+    static void writeEnemy(final ByteBuffer buffer, final Enemy enemy) {
+        buffer.put((byte) enemy.getEnemyType().ordinal());
+        writeEntity(buffer, enemy);
+    }
+
+    /**
+     * Reads the enemy written by {@link #writeEnemy(ByteBuffer, Enemy)} into an existing enemy,
+     * if it has the same type, or into a new one.
+     *
+     * @param buffer
+     *          the buffer where to read
+     * @param existing
+     *          the enemy to change, if there's one
+     * @param tileDimension
+     *          the dimension of the tiles
+     * @param random
+     *          the random source of the level
+     * @return the enemy
+     */
+    static Enemy readEnemy(final ByteBuffer buffer, final Optional<Enemy> existing, final int tileDimension,
+            final Random random) {
+        final EnemyType type = ENEMY_TYPES[buffer.get()];
+        final Enemy enemy = existing.isPresent() && existing.get().getEnemyType() == type ? existing.get()
+                : new EnemyImpl(new Point(), new Dimension(tileDimension, tileDimension), type, random);
+        readEntity(buffer, enemy);
+        return enemy;
+    }
+
+    /**
+     * Writes the state shared by all the entities.
+     *
+     * @param buffer
+     *          the buffer where to write
+     * @param entity
+     *          the entity
+     */
+    private static void writeEntity(final ByteBuffer buffer, final Entity entity) {
+        buffer.putInt(entity.getPosition().x);
+        buffer.putInt(entity.getPosition().y);
+        buffer.put((byte) entity.getDirection().ordinal());
+        buffer.putInt(entity.getRemainingLives());
+        buffer.putInt(entity.getAttack());
+    }
+
+    /**
+     * Reads the state shared by all the entities into an entity.
+     *
+     * @param buffer
+     *          the buffer where to read
+     * @param entity
+     *          the entity to change
+     */
+    private static void readEntity(final ByteBuffer buffer, final Entity entity) {
+        entity.update(new Point(buffer.getInt(), buffer.getInt()));
+        entity.updateDirection(DIRECTIONS[buffer.get()]);
+        entity.modifyLife(buffer.getInt() - entity.getRemainingLives());
+        entity.increaseAttack(buffer.getInt() - entity.getAttack());
+    }
+}
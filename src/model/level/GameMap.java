@@ -0,0 +1,138 @@
+package model.level;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import model.units.PowerUpType;
+import model.units.Tile;
+import model.units.TileType;
+
+/**
+ * This interface models the board of a level.
+ * Each cell of the map is identified by its row and column
+ * and it stores the type of the tile and its powerup.
+ */
+public interface GameMap {
+
+    /**
+     * Gets the number of tiles of a side of the map.
+     *
+     * @return the side's size of the map
+     */
+    int getSize();
+
+    /**
+     * Gets the type of the tile in the specified cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the tile's type
+     */
+    TileType getType(final int row, final int column);
+
+    /**
+     * Sets the type of the tile in the specified cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @param type
+     *          the new type
+     */
+    void setType(final int row, final int column, final TileType type);
+
+    /**
+     * Gets the powerup hidden in the specified cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the powerup, if present
+     */
+    Optional<PowerUpType> getPowerup(final int row, final int column);
+
+    /**
+     * Sets the powerup hidden in the specified cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @param powerup
+     *          the powerup, or an empty value to remove it
+     */
+    void setPowerup(final int row, final int column, final Optional<PowerUpType> powerup);
+
+    /**
+     * Gets the tile in the specified cell.
+     * The tile is backed by the map, so every change
+     * to the tile is reflected in the map.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the tile
+     */
+    Tile getTile(final int row, final int column);
+
+    /**
+     * Gets a read-only view of the tile in the specified cell.
+     * The same view is returned at every call.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the read-only tile
+     */
+    Tile getReadOnlyTile(final int row, final int column);
+
+    /**
+     * Gets all the tiles of the specified types.
+     *
+     * @param types
+     *          the types to select
+     * @return the set of tiles
+     */
+    Set<Tile> getTiles(final TileType... types);
+
+    /**
+     * Gets all the uncovered tiles that still have a powerup.
+     *
+     * @return the set of powerups
+     */
+    Set<Tile> getPowerUps();
+
+    /**
+     * Gets a counter that is increased at every change of the map.
+     * It allows to know if something built from the map is still valid.
+     *
+     * @return the version of the map
+     */
+    int getVersion();
+
+    /**
+     * Adds a listener that is notified every time a cell changes its type,
+     * through the map or through one of its tiles.
+     *
+     * @param listener
+     *          the listener to add
+     */
+    void addListener(final Consumer<TileChange> listener);
+
+    /**
+     * Adds a listener that is notified every time the powerup of a cell changes,
+     * through the map or through one of its tiles.
+     *
+     * @param listener
+     *          the listener to add
+     */
+    void addPowerUpListener(final Consumer<PowerUpChange> listener);
+
+}
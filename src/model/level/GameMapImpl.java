@@ -0,0 +1,297 @@
+package model.level;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import model.units.PowerUpType;
+import model.units.Tile;
+import model.units.TileType;
+import model.utilities.MapPoint;
+import model.utilities.ReadOnlyFactory;
+
+/**
+ * Implementation of {@link GameMap}.
+ * The types of the tiles are kept in a flat array of bytes
+ * (the ordinal of each {@link TileType}), while the powerups,
+ * that are only a few, are kept in a separate table.
+ */
+public class GameMapImpl implements GameMap {
+
+    private static final TileType[] TYPES = TileType.values();
+
+    private final int nTiles;
+    private final int tileDimension;
+    private final byte[] types;
+    private final Map<Integer, PowerUpType> powerups;
+    private final Tile[] readOnlyTiles;
+    private final List<Consumer<TileChange>> listeners;
+    private final List<Consumer<PowerUpChange>> powerupListeners;
+    private volatile int version;
+
+    /**
+     * Constructs a map whose tiles are all walkable.
+     *
+     * @param nTiles
+     *          the number of tiles of a side
+     * @param tileDimension
+     *          the dimension of a tile
+     */
+    public GameMapImpl(final int nTiles, final int tileDimension) {
+        this.nTiles = nTiles;
+        this.tileDimension = tileDimension;
+        this.types = new byte[nTiles * nTiles];
+        this.powerups = new HashMap<>();
+        this.readOnlyTiles = new Tile[nTiles * nTiles];
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.powerupListeners = new CopyOnWriteArrayList<>();
+        this.version = 0;
+    }
+
+    @Override
+    public int getSize() {
+        return this.nTiles;
+    }
+
+    @Override
+    public TileType getType(final int row, final int column) {
+        return TYPES[this.types[this.getIndex(row, column)]];
+    }
+
+    @Override
+    public void setType(final int row, final int column, final TileType type) {
+        this.changeType(this.getIndex(row, column), type);
+    }
+
+    @Override
+    public Optional<PowerUpType> getPowerup(final int row, final int column) {
+        return Optional.ofNullable(this.powerups.get(this.getIndex(row, column)));
+    }
+
+    @Override
+    public void setPowerup(final int row, final int column, final Optional<PowerUpType> powerup) {
+        this.changePowerup(this.getIndex(row, column), powerup);
+        this.version++;
+    }
+
+    @Override
+    public Tile getTile(final int row, final int column) {
+        return new CellTile(this.getIndex(row, column));
+    }
+
+    @Override
+    public Tile getReadOnlyTile(final int row, final int column) {
+        final int index = this.getIndex(row, column);
+        if (this.readOnlyTiles[index] == null) {
+            this.readOnlyTiles[index] = ReadOnlyFactory.getReadOnly(new CellTile(index));
+        }
+        return this.readOnlyTiles[index];
+    }
+
+    @Override
+    public Set<Tile> getTiles(final TileType... types) {
+        final boolean[] selected = new boolean[TYPES.length];
+        for (final TileType t : types) {
+            selected[t.ordinal()] = true;
+        }
+        final Set<Tile> set = new HashSet<>();
+        for (int i = 0; i < this.types.length; i++) {
+            if (selected[this.types[i]]) {
+                set.add(new CellTile(i));
+            }
+        }
+        return set;
+    }
+
+    @Override
+    public Set<Tile> getPowerUps() {
+        final Set<Tile> set = new HashSet<>();
+        for (final Integer index : this.powerups.keySet()) {
+            if (this.types[index] == TileType.POWERUP_STATUS.ordinal()) {
+                set.add(new CellTile(index));
+            }
+        }
+        return set;
+    }
+
+    @Override
+    public int getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public void addListener(final Consumer<TileChange> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void addPowerUpListener(final Consumer<PowerUpChange> listener) {
+        this.powerupListeners.add(listener);
+    }
+
+    /**
+     * Changes the type of a cell and notifies the listeners,
+     * if the type is different from the current one.
+     *
+     * @param index
+     *          the index of the cell
+     * @param type
+     *          the new type
+     */
+    private void changeType(final int index, final TileType type) {
+        final TileType oldType = TYPES[this.types[index]];
+        if (oldType != type) {
+            this.types[index] = (byte) type.ordinal();
+            this.version++;
+            if (!this.listeners.isEmpty()) {
+                final TileChange change = new TileChange(index / this.nTiles, index % this.nTiles, oldType, type);
+                this.listeners.forEach(l -> l.accept(change));
+            }
+        }
+    }
+
+    /**
+     * Changes the powerup of a cell and notifies the listeners,
+     * if the powerup is different from the current one.
+     *
+     * @param index
+     *          the index of the cell
+     * @param powerup
+     *          the new powerup, or an empty optional to remove it
+     * @return true if the powerup changed, false otherwise
+     */
+    private boolean changePowerup(final int index, final Optional<PowerUpType> powerup) {
+        final Optional<PowerUpType> oldPowerup = Optional.ofNullable(powerup.isPresent()
+                ? this.powerups.put(index, powerup.get()) : this.powerups.remove(index));
+        if (oldPowerup.equals(powerup)) {
+            return false;
+        }
+        if (!this.powerupListeners.isEmpty()) {
+            final PowerUpChange change = new PowerUpChange(index / this.nTiles, index % this.nTiles,
+                    oldPowerup, powerup);
+            this.powerupListeners.forEach(l -> l.accept(change));
+        }
+        return true;
+    }
+
+    /**
+     * Gets the position of a cell in the array.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the index of the cell
+     */
+    private int getIndex(final int row, final int column) {
+        return row * this.nTiles + column;
+    }
+
+    /**
+     * A {@link Tile} backed by a cell of the map.
+     */
+    private class CellTile implements Tile {
+
+        private final int index;
+
+        /**
+         * Constructs a tile for the specified cell.
+         *
+         * @param index
+         *          the index of the cell
+         */
+        CellTile(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Point getPosition() {
+            return new Point(this.getX(), this.getY());
+        }
+
+        @Override
+        public Rectangle getHitbox() {
+            return new Rectangle(this.getX(), this.getY(), tileDimension, tileDimension);
+        }
+
+        @Override
+        public int getX() {
+            return MapPoint.getCoordinate(this.index / nTiles, tileDimension);
+        }
+
+        @Override
+        public int getY() {
+            return MapPoint.getCoordinate(this.index % nTiles, tileDimension);
+        }
+
+        @Override
+        public TileType getType() {
+            return TYPES[types[this.index]];
+        }
+
+        @Override
+        public Optional<PowerUpType> getPowerup() {
+            return Optional.ofNullable(powerups.get(this.index));
+        }
+
+        @Override
+        public void setType(final TileType newType) {
+            changeType(this.index, newType);
+        }
+
+        @Override
+        public void setKeyPowerUp() {
+            changePowerup(this.index, Optional.of(PowerUpType.KEY));
+            version++;
+        }
+
+        @Override
+        public void removePowerUp() {
+            if (changePowerup(this.index, Optional.empty())) {
+                version++;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder().append("TILE -  ")
+                    .append("Type is: ")
+                    .append(this.getType())
+                    .append(";\n")
+                    .append("\tPowerUp is: ")
+                    .append(this.getPowerup())
+                    .append(";\n")
+                    .append("\tPosition: (")
+                    .append(this.getX())
+                    .append(", ")
+                    .append(this.getY())
+                    .append(").")
+                    .toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.index;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CellTile && this.index == ((CellTile) obj).index
+                    && this.getMap() == ((CellTile) obj).getMap();
+        }
+
+        /**
+         * @return the map of the tile.
+         */
+        private GameMapImpl getMap() {
+            return GameMapImpl.this;
+        }
+    }
+}
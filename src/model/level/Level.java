@@ -1,6 +1,8 @@
 package model.level;
 
+import java.nio.ByteBuffer;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import model.units.Direction;
 import model.units.Hero;
@@ -77,6 +79,23 @@ public interface Level {
      */
     void setTilesNumber();
 
+    /**
+     * Sets the seed of the random source of the level.
+     * The same seed, with the same inputs, generates the same maps
+     * and the same moves of the enemies, stage after stage.
+     * 
+     * @param seed
+     *          the seed
+     */
+    void setSeed(final long seed);
+
+    /**
+     * Gets the last seed set in the random source of the level.
+     * 
+     * @return the seed
+     */
+    long getSeed();
+
     /**
      * Sets the dimension (weight/height) of a tile.
      * 
@@ -123,5 +142,74 @@ public interface Level {
      * Set the enemies' direction. 
      */
     void setDirectionEnemies();
-    
+
+    /**
+     * Sets whether the enemies chase the hero, following the shortest path through the free cells,
+     * or wander in random directions.
+     * The paths are computed once per move for all the enemies.
+     * 
+     * @param chase
+     *          true if the enemies chase the hero
+     */
+    void setChase(final boolean chase);
+
+    /**
+     * Takes an immutable snapshot of the current state of the level.
+     * 
+     * @return the snapshot
+     */
+    WorldSnapshot takeSnapshot();
+
+    /**
+     * Adds a listener that is notified every time a tile of the map changes its type:
+     * when a bomb destroys a rubble, when the door opens and when the hero takes a powerup.
+     * The tiles of a new map, created for a new stage or by {@link #restore(ByteBuffer)}, aren't notified:
+     * the snapshots of a new map have a new {@link WorldSnapshot#getMapId()},
+     * so who follows the changes must read the whole map again when the id changes.
+     * 
+     * @param listener
+     *          the listener to add
+     */
+    void addTileListener(final Consumer<TileChange> listener);
+
+    /**
+     * Writes the whole state of the level in a binary and versioned format:
+     * the map, the hero with his planted bombs, the enemies, the stage, the random source
+     * and whether the enemies chase the hero.
+     * A map of the greatest size takes less than 4 KB.
+     * 
+     * @param buffer
+     *          the buffer where to write, from its position
+     * @throws java.nio.BufferOverflowException
+     *          if the buffer is too small
+     */
+    void save(final ByteBuffer buffer);
+
+    /**
+     * Restores a state written by {@link #save(ByteBuffer)} in this level.
+     * If the map has the same size and the tiles the same dimension, its tiles are changed in place
+     * and the tile listeners are notified of the changes, otherwise the map is created again
+     * like at the beginning of a stage, without notifying its tiles.
+     * If the tiles have the same dimension, the saved state is read into the current hero and enemies,
+     * so the objects returned by {@link #getHero()} and {@link #getEnemies()} stay valid
+     * and an enemy killed after the save comes back as the same object.
+     * 
+     * @param buffer
+     *          the buffer where to read, from its position
+     * @throws IllegalArgumentException
+     *          if the buffer doesn't contain a state of a level of a known version
+     */
+    void restore(final ByteBuffer buffer);
+
+    /**
+     * Gets a hash of the state of the level: the types and the powerups of the map, the hero with his bombs,
+     * the enemies, the random source and whether the enemies chase the hero.
+     * The hash of the map is kept up to date while the map changes, so the hash is cheap
+     * enough to be taken at every tick: two games with the same seed and the same inputs
+     * have the same hashes, and the first tick with different hashes is where they diverged.
+     * 
+     * @return the hash of the state
+     */
+    long getStateHash();
+
 }
@@ -3,27 +3,43 @@ package model.level;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Random;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 import model.TileFactory;
+import model.level.collision.DistanceField;
+import model.level.collision.DistanceFieldImpl;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.ObstacleIndexImpl;
+import model.level.collision.SpatialHash;
+import model.level.collision.SpatialHashImpl;
 import model.units.Bomb;
 import model.units.Direction;
+import model.units.EntityState;
 import model.units.Hero;
 import model.units.HeroImpl;
+import model.units.PowerUpType;
 import model.units.Tile;
-import model.units.TileImpl;
+import model.units.TileState;
 import model.units.TileType;
 import model.units.enemy.Enemy;
 import model.units.enemy.EnemyImpl;
+import model.units.enemy.EnemyState;
 import model.units.enemy.EnemyType;
 import model.utilities.CopyFactory;
 import model.utilities.MapPoint;
+import model.utilities.ReadOnlyFactory;
+import model.utilities.RestorableRandom;
 
 /**
  * This class represent the Model, as it contains
@@ -36,19 +52,48 @@ public class LevelImpl implements Level {
     private static final int MIN_TILES = 11;
     private static final int MAX_TILES = 19; 
     private static final int ENEMY_FACTOR = 8;
-
-    private Tile[][] gameMap;
+    private static final int SNAPSHOT_MAGIC = 0x424D4C56;
+    private static final byte SNAPSHOT_VERSION = 3;
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final PowerUpType[] POWERUP_TYPES = PowerUpType.values();
+
+    private GameMap gameMap;
+    private ObstacleIndex obstacles;
+    private DistanceField distances;
+    private Tile door;
     private Hero hero;
     private int tileDimension;
     private int nTiles;
     private int stage;
     private Set<Enemy> enemies;
+    private List<Enemy> stageEnemies;
+    private volatile TilesView tilesView;
+    private final List<Consumer<TileChange>> tileListeners;
+    private final RestorableRandom random;
+    private long seed;
+    private long mapHash;
+    private int mapId;
+    private boolean chase;
 
     /**
      * The constructor is used to set the size of the map,
      * because it's the first thing to do to start the game.
+     * The level gets a random seed.
      */
     public LevelImpl() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a level whose maps and enemies are generated by the specified seed.
+     * 
+     * @param seed
+     *          the seed of the random source of the level
+     */
+    public LevelImpl(final long seed) {
+        this.tileListeners = new CopyOnWriteArrayList<>();
+        this.random = new RestorableRandom();
+        this.setSeed(seed);
         this.setTilesNumber();
     }
 
@@ -79,7 +124,7 @@ public class LevelImpl implements Level {
      */
     private void createHero() {
         this.hero = new HeroImpl(MapPoint.getPos(START_HERO_POS, this.tileDimension),
-                new Dimension(this.tileDimension, this.tileDimension));
+                new Dimension(this.tileDimension, this.tileDimension), this.random);
     }
 
     /**
@@ -96,16 +141,35 @@ public class LevelImpl implements Level {
      * This method creates the enemies.
      */
     private void createEnemies() {
-        final Set<Tile> freeTilesSet = this.getFreeTiles();
-        this.enemies = new HashSet<>();
+        final List<Tile> freeTiles = new ArrayList<>(this.getFreeTiles());
+        final int nEnemies = freeTiles.size() / ENEMY_FACTOR;
+        this.enemies = new LinkedHashSet<>();
         final EnemyType[] enemyType = EnemyType.values();
-        for (int i = 0; i < this.getFreeTiles().size() / ENEMY_FACTOR; i++) {
-            final Tile t = freeTilesSet.stream().findAny().get();
-            freeTilesSet.remove(t);
+        for (int i = 0; i < nEnemies; i++) {
+            final Tile t = freeTiles.remove(this.random.nextInt(freeTiles.size()));
             this.enemies.add(new EnemyImpl(t.getPosition(),
                     new Dimension(this.tileDimension, this.tileDimension), 
-                    enemyType[new Random().nextInt(enemyType.length)]));
+                    enemyType[this.random.nextInt(enemyType.length)], this.random));
+        }
+        this.stageEnemies = new ArrayList<>(this.enemies);
+    }
+
+    /**
+     * Gets the identifier of an enemy, that is its position among the enemies created in the stage.
+     * The identifier is saved with the enemy, so that a restore brings back the same object,
+     * even if the enemy was killed after the save.
+     * 
+     * @param enemy
+     *          the enemy
+     * @return the identifier
+     */
+    private int getEnemyId(final Enemy enemy) {
+        for (int i = 0; i < this.stageEnemies.size(); i++) {
+            if (this.stageEnemies.get(i) == enemy) {
+                return i;
+            }
         }
+        throw new IllegalStateException("The enemy isn't in the stage: " + enemy);
     }
 
     /**
@@ -113,15 +177,60 @@ public class LevelImpl implements Level {
      * with the specified size.
      */
     private void createLevel() {
-        final TileFactory factory = new TileFactory(this.nTiles, this.nTiles);
-        this.gameMap = new TileImpl[this.nTiles][this.nTiles];
+        final TileFactory factory = new TileFactory(this.nTiles, this.nTiles, this.random);
+        this.gameMap = new GameMapImpl(this.nTiles, this.tileDimension);
         for (int i = 0; i < this.nTiles; i++) {
             for (int j = 0; j < this.nTiles; j++) {
-                this.gameMap[i][j] = factory.createForCoordinates(i, j, this.tileDimension);
+                final Tile tile = factory.createForCoordinates(i, j, this.tileDimension);
+                this.gameMap.setType(i, j, tile.getType());
+                this.gameMap.setPowerup(i, j, tile.getPowerup());
             }
         }
         this.setDoor(factory);
         this.setKey(factory);
+        this.createObstacles();
+        this.listenMap();
+    }
+
+    /**
+     * Computes the hash of the new map, with its types and its powerups, and then keeps it up to date
+     * and forwards the changes of the map to the tile listeners of the level.
+     */
+    private void listenMap() {
+        this.mapId++;
+        this.mapHash = 0;
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                final int index = i * this.nTiles + j;
+                this.mapHash ^= StateHash.tile(index, this.gameMap.getType(i, j));
+                this.gameMap.getPowerup(i, j).ifPresent(p -> this.mapHash ^= StateHash.powerup(index, p));
+            }
+        }
+        this.gameMap.addListener(c -> {
+            final int index = c.getRow() * this.nTiles + c.getColumn();
+            this.mapHash ^= StateHash.tile(index, c.getOldType()) ^ StateHash.tile(index, c.getNewType());
+            this.tileListeners.forEach(l -> l.accept(c));
+        });
+        this.gameMap.addPowerUpListener(c -> {
+            final int index = c.getRow() * this.nTiles + c.getColumn();
+            c.getOldPowerup().ifPresent(p -> this.mapHash ^= StateHash.powerup(index, p));
+            c.getNewPowerup().ifPresent(p -> this.mapHash ^= StateHash.powerup(index, p));
+        });
+    }
+
+    /**
+     * Builds the index of the obstacles: rubbles and concrete blocks,
+     * and the distances from the hero that the enemies follow when they chase him.
+     */
+    private void createObstacles() {
+        this.obstacles = new ObstacleIndexImpl(this.nTiles, this.tileDimension);
+        this.distances = new DistanceFieldImpl(this.nTiles, this.tileDimension);
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                final TileType type = this.gameMap.getType(i, j);
+                this.obstacles.setBlocked(i, j, type.equals(TileType.RUBBLE) || type.equals(TileType.CONCRETE));
+            }
+        }
     }
 
     /**
@@ -131,7 +240,8 @@ public class LevelImpl implements Level {
      *          the TilesFactory object
      */
     private void setDoor(final TileFactory factory) {
-        factory.setDoor(this.getGenericSet(t -> t.getType().equals(TileType.WALKABLE)));
+        factory.setDoor(this.gameMap.getTiles(TileType.WALKABLE));
+        this.door = this.gameMap.getTiles(TileType.DOOR_CLOSED).stream().findFirst().get();
     }
 
     /**
@@ -141,29 +251,50 @@ public class LevelImpl implements Level {
      *          the TilesFactory object
      */
     private void setKey(final TileFactory factory) {
-        factory.setKey(this.getGenericSet(t -> t.getType().equals(TileType.RUBBLE)));
+        factory.setKey(this.gameMap.getTiles(TileType.RUBBLE));
     }
 
     @Override
     public void moveHero(final Direction dir) {
-        this.hero.move(this.hero.getCorrectDirection(dir), this.getBlocks(), 
-                this.hero.getDetonator().getPlantedBombs().stream()
-                .map(b -> b.getHitbox()).collect(Collectors.toSet()), 
-                this.getPowerUpForMovement());
+        this.hero.move(this.hero.getCorrectDirection(dir), this.obstacles, 
+                this.getPlantedBombs(), this.getPowerUpForMovement());
     }
 
     @Override
     public void moveEnemies() {
+        final SpatialHash<Rectangle> bombs = this.getPlantedBombs();
+        if (this.chase) {
+            this.distances.update(this.obstacles, this.hero.getDetonator().getPlantedBombs(),
+                    this.hero.getPosition());
+        }
         synchronized (this.enemies) {
-            this.enemies.forEach(enemy -> enemy.updateMove(this.getBlocks(), this.hero, 
-                    enemy.getRandomDirection(),
-                    this.hero.getDetonator().getPlantedBombs().stream().map(bomb -> 
-                    bomb.getHitbox()).collect(Collectors.toSet())));
+            this.enemies.forEach(enemy -> {
+                final Direction dir = enemy.getRandomDirection();
+                if (this.chase) {
+                    this.distances.getDirection(enemy.getPosition()).ifPresent(enemy::updateDirection);
+                }
+                enemy.updateMove(this.obstacles, this.hero, dir, bombs);
+            });
         }
     }
 
+    /**
+     * Builds the spatial hash of the planted bombs.
+     * 
+     * @return the spatial hash of the bombs' hitboxes
+     */
+    private SpatialHash<Rectangle> getPlantedBombs() {
+        final SpatialHash<Rectangle> bombs = new SpatialHashImpl<>(this.nTiles, this.tileDimension);
+        this.hero.getDetonator().getPlantedBombs().forEach(b -> bombs.add(b.getHitbox(), b.getHitbox()));
+        return bombs;
+    }
+
     @Override
     public void setDirectionEnemies() {
+        // The enemies that chase the hero turn only on the cells, where they follow the distances
+        if (this.chase) {
+            return;
+        }
         synchronized (this.enemies) {
             this.enemies.stream().filter(enemy -> enemy.getEnemyType().equals(EnemyType.MINVO))
             .forEach(enemy -> enemy.updateDirection(enemy.getRandomDirection()));
@@ -174,7 +305,7 @@ public class LevelImpl implements Level {
      * This method checks if the enemy collides with fire and if it reduces his life.
      * @param tiles involved
      */
-    private void checkCollisionWithExplosionBomb(final Set<Tile> tiles) {
+    private void checkCollisionWithExplosionBomb(final SpatialHash<Tile> tiles) {
         synchronized (this.enemies) {
             final Iterator<Enemy> enemiesIterator = this.enemies.iterator();
             while (enemiesIterator.hasNext()) {
@@ -192,13 +323,26 @@ public class LevelImpl implements Level {
 
     @Override
     public Set<Tile> detonateBomb() {
+        final DetonationEvent event = new DetonationEvent();
+        event.begin();
+        final int nEnemies = this.enemies.size();
         final Set<Tile> tiles = this.getAfflictedTiles(
                 CopyFactory.getCopy(this.hero.getDetonator().getBomb(b -> b.isPositioned())));
-        if (this.hero.getHeroCollision().fireCollision(tiles)) {
+        final SpatialHash<Tile> fire = new SpatialHashImpl<>(this.nTiles, this.tileDimension);
+        tiles.forEach(t -> fire.add(t, t.getHitbox()));
+        final boolean heroHit = this.hero.getHeroCollision().fireCollision(fire);
+        if (heroHit) {
             this.hero.modifyLife(-this.hero.getAttack());
         }
-        this.checkCollisionWithExplosionBomb(tiles);
+        this.checkCollisionWithExplosionBomb(fire);
         this.hero.getDetonator().reactivateBomb();
+        event.end();
+        if (event.shouldCommit()) {
+            event.afflictedTiles = tiles.size();
+            event.killedEnemies = nEnemies - this.enemies.size();
+            event.heroHit = heroHit;
+            event.commit();
+        }
         return tiles;
     }
 
@@ -252,16 +396,18 @@ public class LevelImpl implements Level {
                 MapPoint.stopCycle(i, maxX, dir) && !stop; i += MapPoint.continueCycle(dir)) {
             for (int j = MapPoint.getInvCoordinate(bomb.getY(), this.tileDimension); 
                     MapPoint.stopCycle(j, maxY, dir) && !stop; j += MapPoint.continueCycle(dir)) {
-                if (this.gameMap[i][j].getType().equals(TileType.CONCRETE)) {
+                final TileType type = this.gameMap.getType(i, j);
+                if (type.equals(TileType.CONCRETE)) {
                     stop = true;
                 } else {
-                    afflictedTiles.add(CopyFactory.getCopy(this.gameMap[i][j]));
-                    if (this.gameMap[i][j].getType().equals(TileType.RUBBLE)) {
-                        if (this.gameMap[i][j].getPowerup().isPresent()) {
-                            this.gameMap[i][j].setType(TileType.POWERUP_STATUS);
+                    afflictedTiles.add(CopyFactory.getCopy(this.gameMap.getTile(i, j)));
+                    if (type.equals(TileType.RUBBLE)) {
+                        if (this.gameMap.getPowerup(i, j).isPresent()) {
+                            this.gameMap.setType(i, j, TileType.POWERUP_STATUS);
                         } else {
-                            this.gameMap[i][j].setType(TileType.WALKABLE);
+                            this.gameMap.setType(i, j, TileType.WALKABLE);
                         }
+                        this.obstacles.setBlocked(i, j, false);
                         stop = true;
                     }
                 }
@@ -277,14 +423,65 @@ public class LevelImpl implements Level {
 
     @Override
     public Set<Tile> getTiles() {
-        return this.getGenericSet(t -> !t.getType().equals(TileType.POWERUP_STATUS))
-                .stream().map(t -> CopyFactory.getCopy(t)).collect(Collectors.toSet());
+        return this.getTilesView().tiles;
     }
 
     @Override
     public Set<Tile> getPowerUps() {
-        return this.getPowerUpForMovement().stream()
-                .map(t -> CopyFactory.getCopy(t)).collect(Collectors.toSet());
+        return this.getTilesView().powerUps;
+    }
+
+    /**
+     * Gets the read-only sets of tiles, building them again
+     * only if the map has changed since the last call.
+     * The tiles are immutable states, and the states of the cells that haven't changed
+     * are taken from the previous view of the same map, so the sets never change.
+     * 
+     * @return the current view of the tiles
+     */
+    private TilesView getTilesView() {
+        final GameMap map = this.gameMap;
+        final int version = map.getVersion();
+        TilesView view = this.tilesView;
+        if (view == null || view.map != map || view.version != version) {
+            final TileState[] previous = view != null && view.map == map ? view.cells : null;
+            final Set<Tile> tiles = new HashSet<>();
+            final Set<Tile> powerUps = new HashSet<>();
+            final TileType[] types = new TileType[this.nTiles * this.nTiles];
+            final TileState[] cells = new TileState[this.nTiles * this.nTiles];
+            for (int i = 0; i < this.nTiles; i++) {
+                for (int j = 0; j < this.nTiles; j++) {
+                    final int index = i * this.nTiles + j;
+                    final TileType type = map.getType(i, j);
+                    final Optional<PowerUpType> powerup = map.getPowerup(i, j);
+                    types[index] = type;
+                    if (previous != null && previous[index].getType() == type
+                            && previous[index].getPowerup().equals(powerup)) {
+                        cells[index] = previous[index];
+                    } else {
+                        cells[index] = new TileState(map.getTile(i, j));
+                    }
+                    if (!type.equals(TileType.POWERUP_STATUS)) {
+                        tiles.add(cells[index]);
+                    } else if (powerup.isPresent()) {
+                        powerUps.add(cells[index]);
+                    }
+                }
+            }
+            view = new TilesView(map, version, this.mapId, tiles, types, cells, powerUps);
+            this.tilesView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Gets the map of the level, for the subclasses that change it directly.
+     * The changes are seen by the hash of the level and by the tile listeners.
+     * 
+     * @return the map of the current stage
+     */
+    protected GameMap getGameMap() {
+        return this.gameMap;
     }
 
     /**
@@ -293,13 +490,12 @@ public class LevelImpl implements Level {
      * @return the powerup set.
      */
     private Set<Tile> getPowerUpForMovement() {
-        return this.getGenericSet(t -> t.getType().equals(TileType.POWERUP_STATUS) 
-                && t.getPowerup().isPresent());
+        return this.gameMap.getPowerUps();
     }
     
     @Override
     public Tile getDoor() {
-        return CopyFactory.getCopy(this.getDoorToOpen());
+        return ReadOnlyFactory.getReadOnly(this.getDoorToOpen());
     }
 
     /**
@@ -308,22 +504,7 @@ public class LevelImpl implements Level {
      * @return the door
      */
     private Tile getDoorToOpen() {
-        return this.getGenericSet(t -> t.getType().equals(TileType.DOOR_CLOSED) 
-                || t.getType().equals(TileType.DOOR_OPENED))
-                .stream().findFirst().get();
-    }
-
-    /**
-     * This method builds a Set of all indestructible blocks,
-     * closed door included.
-     * 
-     * @return the set of blocks
-     */
-    private Set<Rectangle> getBlocks() {
-        return this.getGenericSet(t -> t.getType().equals(TileType.RUBBLE) 
-                || t.getType().equals(TileType.CONCRETE))
-                .stream().map(t -> CopyFactory.getCopy(t)).map(t -> t.getHitbox())
-                .collect(Collectors.toSet());
+        return this.door;
     }
 
     /**
@@ -333,29 +514,15 @@ public class LevelImpl implements Level {
      * @return the set of free tiles
      */
     private Set<Tile> getFreeTiles() {
-        return this.getGenericSet(t -> t.getType().equals(TileType.WALKABLE) 
-                && !MapPoint.isEntryPoint(MapPoint.getInvCoordinate(t.getX(), tileDimension),
-                        MapPoint.getInvCoordinate(t.getY(), tileDimension)))
-                .stream().map(t -> CopyFactory.getCopy(t)).collect(Collectors.toSet());
-    }
-
-    /**
-     * This method allows to get a generic set of elements.
-     *  
-     * @param func 
-     *          the function
-     * @return a set of elements
-     */
-    private Set<Tile> getGenericSet(final Predicate<Tile> pred) {
-        final Set<Tile> set = new HashSet<>();
-        for (int i = 0; i < this.gameMap.length; i++) {
-            for (int j = 0; j < this.gameMap.length; j++) {
-                if (pred.test(this.gameMap[i][j])) {
-                    set.add(this.gameMap[i][j]);
+        final Set<Tile> freeTiles = new LinkedHashSet<>();
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                if (this.gameMap.getType(i, j).equals(TileType.WALKABLE) && !MapPoint.isEntryPoint(i, j)) {
+                    freeTiles.add(this.gameMap.getReadOnlyTile(i, j));
                 }
             }
         }
-        return set;
+        return freeTiles;
     }
     
     @Override
@@ -367,11 +534,22 @@ public class LevelImpl implements Level {
     public final void setTilesNumber() {
         int tiles = 0;
         while (tiles % 2 == 0) {
-            tiles = new Random().nextInt(MAX_TILES - MIN_TILES) + MIN_TILES;
+            tiles = this.random.nextInt(MAX_TILES - MIN_TILES) + MIN_TILES;
         }
         this.nTiles = tiles;
     }
 
+    @Override
+    public final void setSeed(final long seed) {
+        this.seed = seed;
+        this.random.setSeed(seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
     @Override
     public void setTileDimension(final int dim) {
         this.tileDimension = dim;
@@ -411,4 +589,191 @@ public class LevelImpl implements Level {
         return Collections.unmodifiableSet(this.enemies);
     }
 
+    @Override
+    public void addTileListener(final Consumer<TileChange> listener) {
+        this.tileListeners.add(listener);
+    }
+
+    @Override
+    public void setChase(final boolean chase) {
+        this.chase = chase;
+    }
+
+    @Override
+    public WorldSnapshot takeSnapshot() {
+        final TilesView view = this.getTilesView();
+        final Set<EnemyState> enemyStates = new HashSet<>();
+        synchronized (this.enemies) {
+            for (final Enemy e : this.enemies) {
+                enemyStates.add(new EnemyState(e));
+            }
+        }
+        return new WorldSnapshotImpl(view.tiles, view.types, this.nTiles, view.mapId, view.powerUps,
+                this.hero.getDetonator().getPlantedBombs(), enemyStates, new EntityState(this.hero));
+    }
+
+    @Override
+    public void save(final ByteBuffer buffer) {
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.put(SNAPSHOT_VERSION);
+        buffer.putLong(this.seed);
+        buffer.putLong(this.random.getState());
+        buffer.put((byte) this.nTiles);
+        buffer.putShort((short) this.tileDimension);
+        buffer.putInt(this.stage);
+        buffer.put((byte) (this.chase ? 1 : 0));
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                buffer.put((byte) this.gameMap.getType(i, j).ordinal());
+            }
+        }
+        final int countPosition = buffer.position();
+        buffer.putShort((short) 0);
+        short powerups = 0;
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                final Optional<PowerUpType> powerup = this.gameMap.getPowerup(i, j);
+                if (powerup.isPresent()) {
+                    buffer.putShort((short) (i * this.nTiles + j));
+                    buffer.put((byte) powerup.get().ordinal());
+                    powerups++;
+                }
+            }
+        }
+        buffer.putShort(countPosition, powerups);
+        buffer.putShort((short) (MapPoint.getInvCoordinate(this.door.getX(), this.tileDimension) * this.nTiles
+                + MapPoint.getInvCoordinate(this.door.getY(), this.tileDimension)));
+        EntityCodec.writeHero(buffer, this.hero);
+        synchronized (this.enemies) {
+            buffer.putShort((short) this.enemies.size());
+            this.enemies.forEach(e -> {
+                buffer.putShort((short) this.getEnemyId(e));
+                EntityCodec.writeEnemy(buffer, e);
+            });
+        }
+    }
+
+    @Override
+    public void restore(final ByteBuffer buffer) {
+        if (buffer.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("The buffer doesn't contain a level");
+        }
+        final byte version = buffer.get();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Unknown version of the level: " + version);
+        }
+        this.seed = buffer.getLong();
+        this.random.setState(buffer.getLong());
+        final int size = Byte.toUnsignedInt(buffer.get());
+        final int dimension = buffer.getShort();
+        this.stage = buffer.getInt();
+        this.chase = buffer.get() != 0;
+        final boolean inPlace = this.gameMap != null && this.nTiles == size && this.tileDimension == dimension;
+        final boolean sameEntities = this.hero != null && this.tileDimension == dimension;
+        this.nTiles = size;
+        this.tileDimension = dimension;
+        if (!inPlace) {
+            this.gameMap = new GameMapImpl(this.nTiles, this.tileDimension);
+        }
+        for (int i = 0; i < this.nTiles; i++) {
+            for (int j = 0; j < this.nTiles; j++) {
+                this.gameMap.setType(i, j, TILE_TYPES[buffer.get()]);
+                this.gameMap.setPowerup(i, j, Optional.empty());
+            }
+        }
+        final int powerups = buffer.getShort();
+        for (int k = 0; k < powerups; k++) {
+            final int index = buffer.getShort();
+            this.gameMap.setPowerup(index / this.nTiles, index % this.nTiles,
+                    Optional.of(POWERUP_TYPES[buffer.get()]));
+        }
+        final int door = buffer.getShort();
+        this.door = this.gameMap.getTile(door / this.nTiles, door % this.nTiles);
+        this.createObstacles();
+        if (!inPlace) {
+            this.listenMap();
+        }
+        if (!sameEntities) {
+            this.hero = EntityCodec.createHero(this.tileDimension, this.random);
+            this.enemies = new LinkedHashSet<>();
+            this.stageEnemies = new ArrayList<>();
+        }
+        EntityCodec.readHero(buffer, this.hero);
+        final List<Enemy> restored = new ArrayList<>();
+        final int enemies = buffer.getShort();
+        for (int k = 0; k < enemies; k++) {
+            final int id = buffer.getShort();
+            while (this.stageEnemies.size() <= id) {
+                this.stageEnemies.add(null);
+            }
+            final Enemy enemy = EntityCodec.readEnemy(buffer, Optional.ofNullable(this.stageEnemies.get(id)),
+                    this.tileDimension, this.random);
+            this.stageEnemies.set(id, enemy);
+            restored.add(enemy);
+        }
+        synchronized (this.enemies) {
+            this.enemies.clear();
+            this.enemies.addAll(restored);
+        }
+    }
+
+    @Override
+    public long getStateHash() {
+        long hash = StateHash.combine(this.mapHash, this.nTiles);
+        hash = StateHash.combine(hash, this.stage);
+        hash = StateHash.combine(hash, this.chase ? 1 : 0);
+        hash = StateHash.combine(hash, this.random.getState());
+        hash = StateHash.combine(hash, StateHash.hero(this.hero));
+        long enemies = 0;
+        synchronized (this.enemies) {
+            for (final Enemy enemy : this.enemies) {
+                enemies = StateHash.combine(enemies, StateHash.enemy(enemy));
+            }
+        }
+        return StateHash.combine(hash, enemies);
+    }
+
+    /**
+     * The read-only sets of tiles built from a version of the map.
+     */
+    private static final class TilesView {
+
+        private final GameMap map;
+        private final int version;
+        private final int mapId;
+        private final Set<Tile> tiles;
+        private final TileType[] types;
+        private final TileState[] cells;
+        private final Set<Tile> powerUps;
+
+        /**
+         * Constructs the view of a version of the map.
+         * 
+         * @param map
+         *          the map
+         * @param version
+         *          the version of the map
+         * @param mapId
+         *          the id of the map
+         * @param tiles
+         *          the tiles without powerup status
+         * @param types
+         *          the types of the cells
+         * @param cells
+         *          the states of the cells
+         * @param powerUps
+         *          the uncovered powerups
+         */
+        TilesView(final GameMap map, final int version, final int mapId, final Set<Tile> tiles, final TileType[] types,
+                final TileState[] cells, final Set<Tile> powerUps) {
+            this.map = map;
+            this.version = version;
+            this.mapId = mapId;
+            this.tiles = Collections.unmodifiableSet(tiles);
+            this.types = types;
+            this.cells = cells;
+            this.powerUps = Collections.unmodifiableSet(powerUps);
+        }
+    }
+
 }
\ No newline at end of file
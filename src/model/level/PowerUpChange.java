@@ -0,0 +1,79 @@
+package model.level;
+
+import java.util.Optional;
+
+import model.units.PowerUpType;
+
+/**
+ * This class represents the change of the powerup of a cell of the map.
+ */
+public final class PowerUpChange {
+
+    private final int row;
+    private final int column;
+    private final Optional<PowerUpType> oldPowerup;
+    private final Optional<PowerUpType> newPowerup;
+
+    /**
+     * Constructs the change of a cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @param oldPowerup
+     *          the powerup before the change, if there was one
+     * @param newPowerup
+     *          the powerup after the change, if there is one
+     */
+    public PowerUpChange(final int row, final int column, final Optional<PowerUpType> oldPowerup,
+            final Optional<PowerUpType> newPowerup) {
+        this.row = row;
+        this.column = column;
+        this.oldPowerup = oldPowerup;
+        this.newPowerup = newPowerup;
+    }
+
+    /**
+     * @return the row of the cell.
+     */
+    public int getRow() {
+        return this.row;
+    }
+
+    /**
+     * @return the column of the cell.
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     * @return the powerup before the change.
+     */
+    public Optional<PowerUpType> getOldPowerup() {
+        return this.oldPowerup;
+    }
+
+    /**
+     * @return the powerup after the change.
+     */
+    public Optional<PowerUpType> getNewPowerup() {
+        return this.newPowerup;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("POWERUP CHANGE -  ")
+                .append("Cell: (")
+                .append(this.row)
+                .append(", ")
+                .append(this.column)
+                .append("); ")
+                .append(this.oldPowerup)
+                .append(" -> ")
+                .append(this.newPowerup)
+                .append(".")
+                .toString();
+    }
+}
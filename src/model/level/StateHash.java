@@ -0,0 +1,119 @@
+package model.level;
+
+import model.units.Bomb;
+import model.units.Hero;
+import model.units.PowerUpType;
+import model.units.TileType;
+import model.units.enemy.Enemy;
+
+/**
+ * This class computes the pieces of the hash of the state of a level.
+ * The tiles have a Zobrist key for every cell and type, and for every cell and powerup,
+ * so the hash of the map is the xor of the keys of its cells and it changes with a couple of xors
+ * when a cell changes.
+ * The keys aren't kept in a table, they are mixed from the cell and the type every time,
+ * so that they're the same in every run of the game.
+ */
+final class StateHash {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+    private static final int TYPE_BITS = 8;
+    private static final long POWERUP_KEYS = 1L << 40;
+
+    private StateHash() { }
+
+    /**
+     * Gets the Zobrist key of a cell with the specified type.
+     *
+     * @param index
+     *          the index of the cell, row by row
+     * @param type
+     *          the type of the tile
+     * @return the key
+     */
+    static long tile(final int index, final TileType type) {
+        return mix((long) index << TYPE_BITS | type.ordinal());
+    }
+
+    /**
+     * Gets the Zobrist key of a cell with the specified powerup.
+     *
+     * @param index
+     *          the index of the cell, row by row
+     * @param powerup
+     *          the powerup of the cell
+     * @return the key, different from all the keys of the types
+     */
+    static long powerup(final int index, final PowerUpType powerup) {
+        return mix((long) index << TYPE_BITS | powerup.ordinal() | POWERUP_KEYS);
+    }
+
+    /**
+     * Gets the hash of the hero, with his detonator and his planted bombs.
+     *
+     * @param hero
+     *          the hero
+     * @return the hash
+     */
+    static long hero(final Hero hero) {
+        long hash = combine(mix(hero.getX()), hero.getY());
+        hash = combine(hash, hero.getDirection().ordinal());
+        hash = combine(hash, hero.getRemainingLives());
+        hash = combine(hash, hero.getAttack());
+        hash = combine(hash, hero.getScore());
+        hash = combine(hash, (hero.hasKey() ? 1 : 0) | (hero.isConfused() ? 2 : 0));
+        hash = combine(hash, hero.getDetonator().getActualRange());
+        hash = combine(hash, hero.getDetonator().getActualBombs());
+        for (final Bomb bomb : hero.getDetonator().getPlantedBombs()) {
+            hash = combine(combine(combine(hash, bomb.getX()), bomb.getY()), bomb.getRange());
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the hash of an enemy.
+     *
+     * @param enemy
+     *          the enemy
+     * @return the hash
+     */
+    static long enemy(final Enemy enemy) {
+        long hash = combine(mix(enemy.getEnemyType().ordinal()), enemy.getX());
+        hash = combine(hash, enemy.getY());
+        hash = combine(hash, enemy.getDirection().ordinal());
+        hash = combine(hash, enemy.getRemainingLives());
+        return combine(hash, enemy.getAttack());
+    }
+
+    /**
+     * Adds a value to a hash, in a way that depends on the order of the values.
+     *
+     * @param hash
+     *          the hash
+     * @param value
+     *          the value to add
+     * @return the new hash
+     */
+    static long combine(final long hash, final long value) {
+        return mix(hash ^ mix(value));
+    }
+
+    /**
+     * Mixes the bits of a value, with the finalizer of SplitMix64.
+     *
+     * @param value
+     *          the value
+     * @return the mixed value
+     */
+    static long mix(final long value) {
+        long z = value + GOLDEN;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
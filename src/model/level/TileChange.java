@@ -0,0 +1,76 @@
+package model.level;
+
+import model.units.TileType;
+
+/**
+ * This class represents the change of type of a cell of the map.
+ */
+public final class TileChange {
+
+    private final int row;
+    private final int column;
+    private final TileType oldType;
+    private final TileType newType;
+
+    /**
+     * Constructs the change of a cell.
+     * 
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @param oldType
+     *          the type before the change
+     * @param newType
+     *          the type after the change
+     */
+    public TileChange(final int row, final int column, final TileType oldType, final TileType newType) {
+        this.row = row;
+        this.column = column;
+        this.oldType = oldType;
+        this.newType = newType;
+    }
+
+    /**
+     * @return the row of the cell.
+     */
+    public int getRow() {
+        return this.row;
+    }
+
+    /**
+     * @return the column of the cell.
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     * @return the type before the change.
+     */
+    public TileType getOldType() {
+        return this.oldType;
+    }
+
+    /**
+     * @return the type after the change.
+     */
+    public TileType getNewType() {
+        return this.newType;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("TILE CHANGE -  ")
+                .append("Cell: (")
+                .append(this.row)
+                .append(", ")
+                .append(this.column)
+                .append("); ")
+                .append(this.oldType)
+                .append(" -> ")
+                .append(this.newType)
+                .append(".")
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package model.level;
+
+import java.util.Set;
+
+import model.units.Bomb;
+import model.units.EntityState;
+import model.units.Tile;
+import model.units.TileType;
+import model.units.enemy.EnemyState;
+
+/**
+ * This interface models the state of a level at the end of a frame.
+ * A snapshot never changes, so it can be read by the view
+ * while the game loop is already updating the level.
+ */
+public interface WorldSnapshot {
+
+    /**
+     * Gets all the tiles where there isn't a powerup status.
+     * 
+     * @return the set of tiles
+     */
+    Set<Tile> getTiles();
+
+    /**
+     * Gets the type of a cell of the map.
+     * 
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the type of the cell
+     */
+    TileType getTileType(int row, int column);
+
+    /**
+     * Gets the id of the map of this state. It changes only when the level builds a new map,
+     * for a new stage or for a restore with a different size, whose tiles aren't notified
+     * to the tile listeners: who follows the changes must read the whole map again.
+     * 
+     * @return the id of the map
+     */
+    int getMapId();
+
+    /**
+     * Gets all the uncovered powerups.
+     * 
+     * @return the set of powerups
+     */
+    Set<Tile> getPowerUps();
+
+    /**
+     * Gets the bombs planted by the hero.
+     * 
+     * @return the set of bombs
+     */
+    Set<Bomb> getPlantedBombs();
+
+    /**
+     * Gets the state of the enemies.
+     * 
+     * @return the set of enemies
+     */
+    Set<EnemyState> getEnemies();
+
+    /**
+     * Gets the state of the hero.
+     * 
+     * @return the hero
+     */
+    EntityState getHero();
+}
@@ -0,0 +1,93 @@
+package model.level;
+
+import java.util.Collections;
+import java.util.Set;
+
+import model.units.Bomb;
+import model.units.EntityState;
+import model.units.Tile;
+import model.units.TileType;
+import model.units.enemy.EnemyState;
+
+/**
+ * Implementation of {@link WorldSnapshot}.
+ * The sets given to the constructor must not be changed afterwards.
+ */
+public final class WorldSnapshotImpl implements WorldSnapshot {
+
+    private final Set<Tile> tiles;
+    private final TileType[] types;
+    private final int nTiles;
+    private final int mapId;
+    private final Set<Tile> powerUps;
+    private final Set<Bomb> bombs;
+    private final Set<EnemyState> enemies;
+    private final EntityState hero;
+
+    /**
+     * Constructs a snapshot of the level.
+     * 
+     * @param tiles
+     *          the tiles without powerup status
+     * @param types
+     *          the types of the cells, a row after the other
+     * @param nTiles
+     *          the number of tiles of a side of the map
+     * @param mapId
+     *          the id of the map
+     * @param powerUps
+     *          the uncovered powerups
+     * @param bombs
+     *          the planted bombs
+     * @param enemies
+     *          the state of the enemies
+     * @param hero
+     *          the state of the hero
+     */
+    public WorldSnapshotImpl(final Set<Tile> tiles, final TileType[] types, final int nTiles, final int mapId,
+            final Set<Tile> powerUps, final Set<Bomb> bombs, final Set<EnemyState> enemies, final EntityState hero) {
+        this.tiles = Collections.unmodifiableSet(tiles);
+        this.types = types;
+        this.nTiles = nTiles;
+        this.mapId = mapId;
+        this.powerUps = Collections.unmodifiableSet(powerUps);
+        this.bombs = Collections.unmodifiableSet(bombs);
+        this.enemies = Collections.unmodifiableSet(enemies);
+        this.hero = hero;
+    }
+
+    @Override
+    public Set<Tile> getTiles() {
+        return this.tiles;
+    }
+
+    @Override
+    public TileType getTileType(final int row, final int column) {
+        return this.types[row * this.nTiles + column];
+    }
+
+    @Override
+    public int getMapId() {
+        return this.mapId;
+    }
+
+    @Override
+    public Set<Tile> getPowerUps() {
+        return this.powerUps;
+    }
+
+    @Override
+    public Set<Bomb> getPlantedBombs() {
+        return this.bombs;
+    }
+
+    @Override
+    public Set<EnemyState> getEnemies() {
+        return this.enemies;
+    }
+
+    @Override
+    public EntityState getHero() {
+        return this.hero;
+    }
+}
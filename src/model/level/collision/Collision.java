@@ -22,6 +22,15 @@ public interface Collision {
      * @return true if there's a collision, false otherwise
      */
     boolean blockCollision(final Set<Rectangle> blockSet);
+
+    /**
+     * Checks if there's a collision with the obstacles of the map.
+     * 
+     * @param obstacles
+     *          the index of the obstacles
+     * @return true if there's a collision, false otherwise
+     */
+    boolean blockCollision(final ObstacleIndex obstacles);
     
     /**
     * Checks if there's a collision with a bomb.
@@ -31,6 +40,15 @@ public interface Collision {
     * @return true if there's a collision, false otherwise
     */
     boolean bombCollision(final Set<Rectangle> bombSet);
+
+    /**
+     * Checks if there's a collision with a bomb.
+     * 
+     * @param bombs
+     *          the spatial hash of the planted bombs
+     * @return true if there's a collision, false otherwise
+     */
+    boolean bombCollision(final SpatialHash<Rectangle> bombs);
     
     /**
      * Checks if there's a collision with fire.
@@ -40,6 +58,15 @@ public interface Collision {
      * @return true if there's a collision, false otherwise
      */
     boolean fireCollision(final Set<Tile> afflictedTiles);
+
+    /**
+     * Checks if there's a collision with fire.
+     * 
+     * @param afflictedTiles
+     *          the spatial hash of the tiles on fire
+     * @return true if there's a collision, false otherwise
+     */
+    boolean fireCollision(final SpatialHash<Tile> afflictedTiles);
     
     /**
      * Checks if there's a collision with a
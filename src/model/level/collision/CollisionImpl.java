@@ -33,6 +33,11 @@ public class CollisionImpl implements Collision {
         return this.elementCollision(blockSet, (rec) -> entityRec.intersects(rec));
     }
 
+    @Override
+    public boolean blockCollision(final ObstacleIndex obstacles) {
+        return !obstacles.intersects(entityRec);
+    }
+
     @Override
     public boolean bombCollision(final Set<Rectangle> bombSet) {
         return this.elementCollision(bombSet, (rec) -> {
@@ -44,12 +49,22 @@ public class CollisionImpl implements Collision {
         });
     }
 
+    @Override
+    public boolean bombCollision(final SpatialHash<Rectangle> bombs) {
+        return !bombs.anyMatch(entityRec, (rec) -> !this.explosionIntersection(rec));
+    }
+
     @Override
     public boolean fireCollision(final Set<Tile> afflictedTiles) { 
         return afflictedTiles.stream()
                 .anyMatch(tile -> this.explosionIntersection(tile.getHitbox()));
     }
 
+    @Override
+    public boolean fireCollision(final SpatialHash<Tile> afflictedTiles) {
+        return afflictedTiles.anyMatch(this.entity.getHitbox(), (tile) -> true);
+    }
+
     @Override
     public <X> boolean elementCollision(final Set<X> set, final Predicate<X> pred) {
         return !set.stream().anyMatch(rec -> pred.test(rec));
@@ -0,0 +1,58 @@
+package model.level.collision;
+
+import java.awt.Point;
+import java.util.Optional;
+import java.util.Set;
+
+import model.units.Bomb;
+import model.units.Direction;
+
+/**
+ * This interface models the distances of the cells of the map from a target,
+ * walking only through the free cells.
+ * The distances are computed once and then read by all the entities that want to reach the target.
+ */
+public interface DistanceField {
+
+    /**
+     * The distance of a cell that can't reach the target.
+     */
+    int UNREACHABLE = -1;
+
+    /**
+     * Computes the distances of all the cells from the cell that contains the target.
+     * Obstacles and planted bombs can't be crossed.
+     *
+     * @param obstacles
+     *          the obstacles of the map
+     * @param bombs
+     *          the planted bombs
+     * @param target
+     *          the position of the target
+     */
+    void update(final ObstacleIndex obstacles, final Set<Bomb> bombs, final Point target);
+
+    /**
+     * Gets the distance of a cell from the target.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return the number of cells to cross, or {@link #UNREACHABLE}
+     */
+    int getDistance(final int row, final int column);
+
+    /**
+     * Gets the direction that brings an entity to a cell nearer to the target.
+     * The direction is given only when the entity is exactly on a cell,
+     * so that it can turn without hitting the corners of the obstacles.
+     *
+     * @param position
+     *          the position of the entity
+     * @return the direction, or an empty optional if the entity is between two cells,
+     *          it's already on the target or it can't reach it
+     */
+    Optional<Direction> getDirection(final Point position);
+
+}
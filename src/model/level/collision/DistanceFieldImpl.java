@@ -0,0 +1,117 @@
+package model.level.collision;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import model.units.Bomb;
+import model.units.Direction;
+
+/**
+ * Implementation of {@link DistanceField}.
+ * It's a breadth-first visit of the map from the cell of the target, so an update costs
+ * the same whatever the number of entities that read it.
+ * The arrays of the distances and of the visit are kept between the updates.
+ */
+public class DistanceFieldImpl implements DistanceField {
+
+    private static final int CLOSED = Integer.MAX_VALUE;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int nTiles;
+    private final int tileDimension;
+    private final int[] distances;
+    private final int[] queue;
+
+    /**
+     * Constructs a field where all the cells are unreachable.
+     *
+     * @param nTiles
+     *          the number of tiles of a side of the map
+     * @param tileDimension
+     *          the dimension of a tile
+     */
+    public DistanceFieldImpl(final int nTiles, final int tileDimension) {
+        this.nTiles = nTiles;
+        this.tileDimension = tileDimension;
+        this.distances = new int[nTiles * nTiles];
+        this.queue = new int[nTiles * nTiles];
+        Arrays.fill(this.distances, UNREACHABLE);
+    }
+
+    @Override
+    public void update(final ObstacleIndex obstacles, final Set<Bomb> bombs, final Point target) {
+        Arrays.fill(this.distances, UNREACHABLE);
+        for (final Bomb bomb : bombs) {
+            this.distances[this.getIndex(this.getCell(bomb.getX()), this.getCell(bomb.getY()))] = CLOSED;
+        }
+        // The target is the cell that contains the center of its hitbox
+        final int start = this.getIndex(this.getCell(target.x + this.tileDimension / 2),
+                this.getCell(target.y + this.tileDimension / 2));
+        this.distances[start] = 0;
+        this.queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            final int cell = this.queue[head++];
+            final int row = cell / this.nTiles;
+            final int column = cell % this.nTiles;
+            for (final Direction dir : DIRECTIONS) {
+                final int nextRow = row + dir.getTranslation().x;
+                final int nextColumn = column + dir.getTranslation().y;
+                if (this.contains(nextRow, nextColumn) && !obstacles.isBlocked(nextRow, nextColumn)) {
+                    final int next = this.getIndex(nextRow, nextColumn);
+                    if (this.distances[next] == UNREACHABLE) {
+                        this.distances[next] = this.distances[cell] + 1;
+                        this.queue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getDistance(final int row, final int column) {
+        final int distance = this.distances[this.getIndex(row, column)];
+        return distance == CLOSED ? UNREACHABLE : distance;
+    }
+
+    @Override
+    public Optional<Direction> getDirection(final Point position) {
+        if (position.x % this.tileDimension != 0 || position.y % this.tileDimension != 0) {
+            return Optional.empty();
+        }
+        final int row = this.getCell(position.x);
+        final int column = this.getCell(position.y);
+        if (!this.contains(row, column)) {
+            return Optional.empty();
+        }
+        int best = this.getDistance(row, column);
+        Direction direction = null;
+        for (final Direction dir : DIRECTIONS) {
+            final int nextRow = row + dir.getTranslation().x;
+            final int nextColumn = column + dir.getTranslation().y;
+            if (this.contains(nextRow, nextColumn)) {
+                final int distance = this.getDistance(nextRow, nextColumn);
+                if (distance != UNREACHABLE && distance < best) {
+                    best = distance;
+                    direction = dir;
+                }
+            }
+        }
+        return Optional.ofNullable(direction);
+    }
+
+    private boolean contains(final int row, final int column) {
+        return row >= 0 && row < this.nTiles && column >= 0 && column < this.nTiles;
+    }
+
+    private int getIndex(final int row, final int column) {
+        return row * this.nTiles + column;
+    }
+
+    private int getCell(final int coordinate) {
+        return Math.floorDiv(coordinate, this.tileDimension);
+    }
+}
@@ -21,7 +21,7 @@ public interface HeroCollision extends Collision {
     boolean powerUpCollision(final Set<Tile> powerUpSet);
     
     /**
-     * Checks the collision with the open door.
+     * Checks the collision of the current hitbox of the hero with the open door.
      * 
      *@param doorOpened
      *          the open door
@@ -1,6 +1,7 @@
 package model.level.collision;
 
 import java.awt.Rectangle;
+import java.util.Random;
 import java.util.Set;
 
 import model.units.Entity;
@@ -14,21 +15,36 @@ import model.units.TileType;
 
 public class HeroCollisionImpl extends CollisionImpl implements HeroCollision {
 
+    private final Random random;
+
     /**
-     * Constructs a new HeroCollision object.
+     * Constructs a new HeroCollision object, with its own random source.
      * 
      * @param entity
      *          the hero
      */
     public HeroCollisionImpl(final Entity entity) {
+        this(entity, new Random());
+    }
+
+    /**
+     * Constructs a new HeroCollision object.
+     * 
+     * @param entity
+     *          the hero
+     * @param random
+     *          the random source of the game, used by the powerups
+     */
+    public HeroCollisionImpl(final Entity entity, final Random random) {
         super(entity);
+        this.random = random;
     }
 
     @Override
     public boolean powerUpCollision(final Set<Tile> powerUpSet) {
         return super.elementCollision(powerUpSet, (tile) -> {
             if (entityRec.intersects(tile.getHitbox())) {
-                tile.getPowerup().get().apply((Hero) entity);
+                tile.getPowerup().get().apply((Hero) entity, this.random);
                 tile.removePowerUp();
                 tile.setType(TileType.WALKABLE);
             }
@@ -38,7 +54,7 @@ public class HeroCollisionImpl extends CollisionImpl implements HeroCollision {
 
     @Override
     public boolean openDoorCollision(final Rectangle doorOpened) {
-            return entityRec.intersects(doorOpened);
+        return this.entity.getHitbox().intersects(doorOpened);
     }
 
 }
@@ -0,0 +1,44 @@
+package model.level.collision;
+
+import java.awt.Rectangle;
+
+/**
+ * This interface models an index of the cells of the map
+ * that can't be crossed by the entities.
+ */
+public interface ObstacleIndex {
+
+    /**
+     * Marks a cell as an obstacle or as a free cell.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @param blocked
+     *          true if the cell is an obstacle, false otherwise
+     */
+    void setBlocked(final int row, final int column, final boolean blocked);
+
+    /**
+     * Checks if a cell is an obstacle.
+     *
+     * @param row
+     *          the row of the cell
+     * @param column
+     *          the column of the cell
+     * @return true if the cell is an obstacle, false otherwise
+     */
+    boolean isBlocked(final int row, final int column);
+
+    /**
+     * Checks if a rectangle intersects at least an obstacle.
+     * Only the cells covered by the rectangle are checked.
+     *
+     * @param rec
+     *          the rectangle to check
+     * @return true if there's an intersection, false otherwise
+     */
+    boolean intersects(final Rectangle rec);
+
+}
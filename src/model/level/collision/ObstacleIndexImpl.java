@@ -0,0 +1,65 @@
+package model.level.collision;
+
+import java.awt.Rectangle;
+
+/**
+ * Implementation of {@link ObstacleIndex}.
+ * It keeps a flag for each cell of the map.
+ */
+public class ObstacleIndexImpl implements ObstacleIndex {
+
+    private final int nTiles;
+    private final int tileDimension;
+    private final boolean[] blocked;
+
+    /**
+     * Constructs an index without obstacles.
+     *
+     * @param nTiles
+     *          the number of tiles of a side of the map
+     * @param tileDimension
+     *          the dimension of a tile
+     */
+    public ObstacleIndexImpl(final int nTiles, final int tileDimension) {
+        this.nTiles = nTiles;
+        this.tileDimension = tileDimension;
+        this.blocked = new boolean[nTiles * nTiles];
+    }
+
+    @Override
+    public void setBlocked(final int row, final int column, final boolean blocked) {
+        this.blocked[row * this.nTiles + column] = blocked;
+    }
+
+    @Override
+    public boolean isBlocked(final int row, final int column) {
+        return this.blocked[row * this.nTiles + column];
+    }
+
+    @Override
+    public boolean intersects(final Rectangle rec) {
+        final int minRow = Math.max(0, this.getCell(rec.x));
+        final int maxRow = Math.min(this.nTiles - 1, this.getCell(rec.x + rec.width - 1));
+        final int minColumn = Math.max(0, this.getCell(rec.y));
+        final int maxColumn = Math.min(this.nTiles - 1, this.getCell(rec.y + rec.height - 1));
+        for (int i = minRow; i <= maxRow; i++) {
+            for (int j = minColumn; j <= maxColumn; j++) {
+                if (this.isBlocked(i, j)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the cell that contains the specified coordinate.
+     *
+     * @param coordinate
+     *          the coordinate
+     * @return the row or the column of the cell
+     */
+    private int getCell(final int coordinate) {
+        return Math.floorDiv(coordinate, this.tileDimension);
+    }
+}
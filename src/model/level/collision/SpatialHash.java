@@ -0,0 +1,43 @@
+package model.level.collision;
+
+import java.awt.Rectangle;
+import java.util.function.Predicate;
+
+/**
+ * This interface models a spatial hash of game elements.
+ * Every element is kept in the cells of the map covered by its hitbox,
+ * so a query only checks the elements near the specified area.
+ *
+ * @param <X>
+ *          the type of the elements
+ */
+public interface SpatialHash<X> {
+
+    /**
+     * Adds an element.
+     *
+     * @param element
+     *          the element to add
+     * @param hitbox
+     *          the hitbox of the element
+     */
+    void add(final X element, final Rectangle hitbox);
+
+    /**
+     * Removes all the elements.
+     */
+    void clear();
+
+    /**
+     * Checks if there's an element whose hitbox intersects the
+     * specified rectangle and that satisfies the predicate.
+     *
+     * @param rec
+     *          the rectangle to check
+     * @param pred
+     *          the predicate
+     * @return true if there's such an element, false otherwise
+     */
+    boolean anyMatch(final Rectangle rec, final Predicate<X> pred);
+
+}
@@ -0,0 +1,117 @@
+package model.level.collision;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of {@link SpatialHash}.
+ * The elements are grouped in buckets, one for each cell of the map.
+ *
+ * @param <X>
+ *          the type of the elements
+ */
+public class SpatialHashImpl<X> implements SpatialHash<X> {
+
+    private final int nTiles;
+    private final int tileDimension;
+    private final Map<Integer, List<Entry<X>>> buckets;
+
+    /**
+     * Constructs an empty spatial hash.
+     *
+     * @param nTiles
+     *          the number of tiles of a side of the map
+     * @param tileDimension
+     *          the dimension of a tile
+     */
+    public SpatialHashImpl(final int nTiles, final int tileDimension) {
+        this.nTiles = nTiles;
+        this.tileDimension = tileDimension;
+        this.buckets = new HashMap<>();
+    }
+
+    @Override
+    public void add(final X element, final Rectangle hitbox) {
+        final Entry<X> entry = new Entry<>(element, new Rectangle(hitbox));
+        for (int i = this.getMinCell(hitbox.x); i <= this.getMaxCell(hitbox.x, hitbox.width); i++) {
+            for (int j = this.getMinCell(hitbox.y); j <= this.getMaxCell(hitbox.y, hitbox.height); j++) {
+                this.buckets.computeIfAbsent(i * this.nTiles + j, k -> new ArrayList<>()).add(entry);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.buckets.clear();
+    }
+
+    @Override
+    public boolean anyMatch(final Rectangle rec, final Predicate<X> pred) {
+        for (int i = this.getMinCell(rec.x); i <= this.getMaxCell(rec.x, rec.width); i++) {
+            for (int j = this.getMinCell(rec.y); j <= this.getMaxCell(rec.y, rec.height); j++) {
+                final List<Entry<X>> bucket = this.buckets.get(i * this.nTiles + j);
+                if (bucket != null) {
+                    for (final Entry<X> entry : bucket) {
+                        if (entry.hitbox.intersects(rec) && pred.test(entry.element)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the first cell covered from the specified coordinate.
+     *
+     * @param coordinate
+     *          the coordinate
+     * @return the first row or column, inside the map
+     */
+    private int getMinCell(final int coordinate) {
+        return Math.max(0, Math.floorDiv(coordinate, this.tileDimension));
+    }
+
+    /**
+     * Gets the last cell covered from the specified coordinate and size.
+     *
+     * @param coordinate
+     *          the coordinate
+     * @param size
+     *          the width or the height
+     * @return the last row or column, inside the map
+     */
+    private int getMaxCell(final int coordinate, final int size) {
+        return Math.min(this.nTiles - 1, Math.floorDiv(coordinate + size - 1, this.tileDimension));
+    }
+
+    /**
+     * An element with its hitbox.
+     *
+     * @param <X>
+     *          the type of the element
+     */
+    private static class Entry<X> {
+
+        private final X element;
+        private final Rectangle hitbox;
+
+        /**
+         * Constructs a new entry.
+         *
+         * @param element
+         *          the element
+         * @param hitbox
+         *          the hitbox of the element
+         */
+        Entry(final X element, final Rectangle hitbox) {
+            this.element = element;
+            this.hitbox = hitbox;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package model.test;
 
 import java.awt.Dimension;
 import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -10,6 +12,12 @@ import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Test;
 
+import model.level.collision.DistanceField;
+import model.level.collision.DistanceFieldImpl;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.ObstacleIndexImpl;
+import model.level.collision.SpatialHash;
+import model.level.collision.SpatialHashImpl;
 import model.units.Bomb;
 import model.units.BombImpl;
 import model.units.Direction;
@@ -82,6 +90,36 @@ public class TestCollision {
         Assert.assertTrue(enemy.getPosition().equals(new Point(30, 29)));
     }
 
+    /**
+     * This test verifies the correct collision with the index of the obstacles.
+     */
+    @Test
+    public void testObstacleIndexCollision() {
+        final ObstacleIndex obstacles = new ObstacleIndexImpl(N_TILES, TILE_DIMENSION);
+        this.createTiles().stream().filter(tile -> tile.getType().equals(TileType.CONCRETE))
+                .forEach(tile -> obstacles.setBlocked(MapPoint.getInvCoordinate(tile.getX(), TILE_DIMENSION),
+                        MapPoint.getInvCoordinate(tile.getY(), TILE_DIMENSION), true));
+        Assert.assertTrue(obstacles.isBlocked(0, 3));
+        Assert.assertTrue(obstacles.isBlocked(2, 2));
+        Assert.assertFalse(obstacles.isBlocked(1, 2));
+        final SpatialHash<Rectangle> bombs = new SpatialHashImpl<>(N_TILES, TILE_DIMENSION);
+        final Hero hero = this.createHero(1, 1);
+        hero.move(Direction.LEFT, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(10, 10)));
+        hero.move(Direction.RIGHT, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(11, 10)));
+        hero.move(Direction.DOWN, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(11, 10)));
+        final Enemy enemy = this.createEnemy(3, 3);
+        enemy.move(Direction.RIGHT, obstacles, hero, bombs);
+        Assert.assertTrue(enemy.getPosition().equals(new Point(30, 30)));
+        enemy.move(Direction.UP, obstacles, hero, bombs);
+        Assert.assertTrue(enemy.getPosition().equals(new Point(30, 29)));
+        obstacles.setBlocked(2, 2, false);
+        hero.move(Direction.DOWN, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(11, 11)));
+    }
+
     /**
      * This test verifies the correct collision with bomb.
      */
@@ -105,6 +143,31 @@ public class TestCollision {
         Assert.assertTrue(enemy.getPosition().equals(new Point(30, 30)));
     }
     
+    /**
+     * This test verifies the correct collision with the spatial hashes of bombs and fire.
+     */
+    @Test
+    public void testSpatialHashCollision() {
+        final ObstacleIndex obstacles = new ObstacleIndexImpl(N_TILES, TILE_DIMENSION);
+        final SpatialHash<Rectangle> bombs = new SpatialHashImpl<>(N_TILES, TILE_DIMENSION);
+        final Bomb bomb = new BombImpl(new Point(20, 10), new Dimension(TILE_DIMENSION, TILE_DIMENSION), 1);
+        bombs.add(bomb.getHitbox(), bomb.getHitbox());
+        final Hero hero = this.createHero(1, 1);
+        hero.move(Direction.RIGHT, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(10, 10)));
+        hero.move(Direction.DOWN, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(hero.getPosition().equals(new Point(10, 11)));
+        final Hero heroOnBomb = this.createHero(2, 1);
+        heroOnBomb.move(Direction.RIGHT, obstacles, bombs, new HashSet<>());
+        Assert.assertTrue(heroOnBomb.getPosition().equals(new Point(21, 10)));
+        final SpatialHash<Tile> fire = new SpatialHashImpl<>(N_TILES, TILE_DIMENSION);
+        this.createTiles().stream().filter(tile -> tile.getX() == 30)
+                .forEach(tile -> fire.add(tile, tile.getHitbox()));
+        Assert.assertFalse(hero.getHeroCollision().fireCollision(fire));
+        Assert.assertTrue(heroOnBomb.getHeroCollision().fireCollision(fire));
+        Assert.assertTrue(this.createEnemy(3, 2).getEnemyCollision().fireCollision(fire));
+    }
+
     /**
      * This test verifies the correct collision with power up.
      */
@@ -153,6 +216,33 @@ public class TestCollision {
         Assert.assertEquals(hero.getRemainingLives(), heroLives - enemy.getAttack());
     }
 
+    /**
+     * This test verifies the distances from the hero and the directions that lead to him.
+     */
+    @Test
+    public void testDistanceField() {
+        final ObstacleIndex obstacles = new ObstacleIndexImpl(N_TILES, TILE_DIMENSION);
+        this.createTiles().stream().filter(tile -> tile.getType().equals(TileType.CONCRETE))
+                .forEach(tile -> obstacles.setBlocked(MapPoint.getInvCoordinate(tile.getX(), TILE_DIMENSION),
+                        MapPoint.getInvCoordinate(tile.getY(), TILE_DIMENSION), true));
+        final DistanceField field = new DistanceFieldImpl(N_TILES, TILE_DIMENSION);
+        final Hero hero = this.createHero(1, 1);
+        hero.move(Direction.RIGHT, obstacles, new SpatialHashImpl<>(N_TILES, TILE_DIMENSION), new HashSet<>());
+        field.update(obstacles, Collections.emptySet(), hero.getPosition());
+        Assert.assertEquals(field.getDistance(1, 1), 0);
+        Assert.assertEquals(field.getDistance(1, 3), 2);
+        Assert.assertEquals(field.getDistance(3, 3), 4);
+        Assert.assertEquals(field.getDistance(2, 2), DistanceField.UNREACHABLE);
+        Assert.assertEquals(field.getDirection(new Point(30, 30)), Optional.of(Direction.UP));
+        Assert.assertEquals(field.getDirection(new Point(30, 29)), Optional.empty());
+        Assert.assertEquals(field.getDirection(new Point(10, 10)), Optional.empty());
+        final Bomb bomb = new BombImpl(new Point(10, 20), new Dimension(TILE_DIMENSION, TILE_DIMENSION), 1);
+        field.update(obstacles, Collections.singleton(bomb), hero.getPosition());
+        Assert.assertEquals(field.getDistance(1, 2), DistanceField.UNREACHABLE);
+        Assert.assertEquals(field.getDistance(1, 3), 6);
+        Assert.assertEquals(field.getDirection(new Point(10, 30)), Optional.of(Direction.RIGHT));
+    }
+
     /**
      * This method creates a set of files corresponding to the game.
      * @return the set of tiles
@@ -0,0 +1,117 @@
+package model.test;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import model.level.GameMap;
+import model.level.GameMapImpl;
+import model.level.PowerUpChange;
+import model.level.TileChange;
+import model.units.PowerUpType;
+import model.units.Tile;
+import model.units.TileType;
+
+/**
+ * This class is used to verify the correct operation of the game map.
+ */
+public class TestGameMap {
+
+    private static final int TILE_DIMENSION = 10;
+    private static final int N_TILES = 5;
+
+    /**
+     * This test verifies the types and the powerups stored in the cells.
+     */
+    @Test
+    public void testCells() {
+        final GameMap map = new GameMapImpl(N_TILES, TILE_DIMENSION);
+        Assert.assertEquals(map.getSize(), N_TILES);
+        Assert.assertEquals(map.getType(2, 3), TileType.WALKABLE);
+        Assert.assertEquals(map.getTiles(TileType.WALKABLE).size(), N_TILES * N_TILES);
+        map.setType(2, 3, TileType.RUBBLE);
+        map.setPowerup(2, 3, Optional.of(PowerUpType.BOMB));
+        Assert.assertEquals(map.getType(2, 3), TileType.RUBBLE);
+        Assert.assertEquals(map.getType(3, 2), TileType.WALKABLE);
+        Assert.assertEquals(map.getPowerup(2, 3), Optional.of(PowerUpType.BOMB));
+        Assert.assertEquals(map.getPowerup(3, 2), Optional.empty());
+        Assert.assertTrue(map.getPowerUps().isEmpty());
+        map.setType(2, 3, TileType.POWERUP_STATUS);
+        Assert.assertEquals(map.getPowerUps().size(), 1);
+        map.setPowerup(2, 3, Optional.empty());
+        Assert.assertTrue(map.getPowerUps().isEmpty());
+    }
+
+    /**
+     * This test verifies that the tiles are backed by the map.
+     */
+    @Test
+    public void testTiles() {
+        final GameMap map = new GameMapImpl(N_TILES, TILE_DIMENSION);
+        final Tile tile = map.getTile(1, 4);
+        Assert.assertEquals(tile.getPosition(), new Point(10, 40));
+        Assert.assertEquals(tile.getHitbox(), new Rectangle(10, 40, TILE_DIMENSION, TILE_DIMENSION));
+        Assert.assertEquals(tile, map.getTile(1, 4));
+        Assert.assertNotEquals(tile, map.getTile(4, 1));
+        tile.setType(TileType.POWERUP_STATUS);
+        tile.setKeyPowerUp();
+        Assert.assertEquals(map.getType(1, 4), TileType.POWERUP_STATUS);
+        final Set<Tile> powerUps = map.getPowerUps();
+        Assert.assertTrue(powerUps.contains(tile));
+        Assert.assertEquals(powerUps.iterator().next().getPowerup(), Optional.of(PowerUpType.KEY));
+        tile.removePowerUp();
+        tile.setType(TileType.WALKABLE);
+        Assert.assertEquals(map.getPowerup(1, 4), Optional.empty());
+        Assert.assertEquals(map.getTiles(TileType.POWERUP_STATUS, TileType.RUBBLE).size(), 0);
+    }
+
+    /**
+     * This test verifies that the listeners are notified of the changes of type.
+     */
+    @Test
+    public void testListener() {
+        final GameMap map = new GameMapImpl(N_TILES, TILE_DIMENSION);
+        final List<TileChange> changes = new ArrayList<>();
+        map.addListener(changes::add);
+        map.setType(2, 3, TileType.RUBBLE);
+        map.setType(2, 3, TileType.RUBBLE);
+        map.getTile(4, 1).setType(TileType.DOOR_OPENED);
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertEquals(changes.get(0).getRow(), 2);
+        Assert.assertEquals(changes.get(0).getColumn(), 3);
+        Assert.assertEquals(changes.get(0).getOldType(), TileType.WALKABLE);
+        Assert.assertEquals(changes.get(0).getNewType(), TileType.RUBBLE);
+        Assert.assertEquals(changes.get(1).getRow(), 4);
+        Assert.assertEquals(changes.get(1).getColumn(), 1);
+        Assert.assertEquals(changes.get(1).getNewType(), TileType.DOOR_OPENED);
+    }
+
+    /**
+     * This test verifies that the listeners are notified of the changes of powerup.
+     */
+    @Test
+    public void testPowerUpListener() {
+        final GameMap map = new GameMapImpl(N_TILES, TILE_DIMENSION);
+        final List<PowerUpChange> changes = new ArrayList<>();
+        map.addPowerUpListener(changes::add);
+        map.setPowerup(1, 2, Optional.of(PowerUpType.RANGE));
+        map.setPowerup(1, 2, Optional.of(PowerUpType.RANGE));
+        map.getTile(3, 3).setKeyPowerUp();
+        map.getTile(1, 2).removePowerUp();
+        map.getTile(1, 2).removePowerUp();
+        Assert.assertEquals(changes.size(), 3);
+        Assert.assertEquals(changes.get(0).getRow(), 1);
+        Assert.assertEquals(changes.get(0).getColumn(), 2);
+        Assert.assertEquals(changes.get(0).getOldPowerup(), Optional.empty());
+        Assert.assertEquals(changes.get(0).getNewPowerup(), Optional.of(PowerUpType.RANGE));
+        Assert.assertEquals(changes.get(1).getNewPowerup(), Optional.of(PowerUpType.KEY));
+        Assert.assertEquals(changes.get(2).getOldPowerup(), Optional.of(PowerUpType.RANGE));
+        Assert.assertEquals(changes.get(2).getNewPowerup(), Optional.empty());
+    }
+}
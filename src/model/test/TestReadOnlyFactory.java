@@ -0,0 +1,63 @@
+package model.test;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import model.units.Bomb;
+import model.units.BombImpl;
+import model.units.Tile;
+import model.units.TileImpl;
+import model.units.TileType;
+import model.utilities.ReadOnlyFactory;
+
+/**
+ * This class is used to verify the correct operation of the read-only views.
+ */
+public class TestReadOnlyFactory {
+
+    private static final int TILE_DIMENSION = 10;
+
+    /**
+     * This test verifies that the view of a tile follows the tile and can't change it.
+     */
+    @Test
+    public void testTile() {
+        final Tile tile = new TileImpl(new Point(0, 0), new Dimension(TILE_DIMENSION, TILE_DIMENSION),
+                TileType.RUBBLE, Optional.empty());
+        final Tile view = ReadOnlyFactory.getReadOnly(tile);
+        Assert.assertEquals(tile.getPosition(), view.getPosition());
+        Assert.assertEquals(tile.getType(), view.getType());
+        tile.setType(TileType.WALKABLE);
+        Assert.assertEquals(view.getType(), TileType.WALKABLE);
+        Assert.assertEquals(view, ReadOnlyFactory.getReadOnly(tile));
+        try {
+            view.setType(TileType.CONCRETE);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(tile.getType(), TileType.WALKABLE);
+        }
+    }
+
+    /**
+     * This test verifies that the view of a bomb follows the bomb and can't change it.
+     */
+    @Test
+    public void testBomb() {
+        final Bomb bomb = new BombImpl(new Point(1, 1), new Dimension(TILE_DIMENSION, TILE_DIMENSION), 2);
+        final Bomb view = ReadOnlyFactory.getReadOnly(bomb);
+        Assert.assertEquals(bomb.getPosition(), view.getPosition());
+        Assert.assertFalse(view.isPositioned());
+        bomb.setPlanted(true);
+        Assert.assertTrue(view.isPositioned());
+        try {
+            view.setRange(3);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(bomb.getRange(), 2);
+        }
+    }
+}
@@ -32,6 +32,12 @@ public interface Detonator {
      */
     void reactivateBomb();
 
+    /**
+     * Removes all the bombs and brings the range and the number of bombs back to the initial values,
+     * so that the detonator can be changed into a saved one.
+     */
+    void clear();
+
     /**
      * It returns a bomb that satisfy the specified 
      * predicate.
@@ -57,7 +63,8 @@ public interface Detonator {
     boolean hasBombs();
 
     /**
-     * Gets the list of planted bombs.
+     * Gets the list of planted bombs, in the order they were planted,
+     * that is the order they explode.
      * 
      * @return the list of planted bombs
      */
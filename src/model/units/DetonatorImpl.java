@@ -2,13 +2,15 @@ package model.units;
 
 import java.awt.Dimension;
 import java.awt.Point;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import model.utilities.CopyFactory;
+import model.utilities.ReadOnlyFactory;
 
 /**
  * Implementation of {@link Detonator}.
@@ -23,6 +25,8 @@ public class DetonatorImpl implements Detonator {
     private int bombRange;
     private int maxBombs;
     private final Deque<Bomb> bombList;
+    private final Deque<Bomb> plantedList;
+    private Set<Bomb> plantedBombs;
 
     /**
      * It creates a detonator.
@@ -35,6 +39,8 @@ public class DetonatorImpl implements Detonator {
         this.bombRange = INITIAL_RANGE;
         this.maxBombs = INITIAL_BOMBS;
         this.bombList = new LinkedList<>();
+        this.plantedList = new LinkedList<>();
+        this.plantedBombs = Collections.emptySet();
     }
 
     /**
@@ -62,16 +68,34 @@ public class DetonatorImpl implements Detonator {
     @Override
     public void plantBomb(final Point pos) {
         this.addBomb(pos);
-        this.getBomb(b -> !b.isPositioned()).setPlanted(true);
+        synchronized (this.bombList) {
+            final Bomb bomb = this.getBomb(b -> !b.isPositioned());
+            bomb.setPlanted(true);
+            this.plantedList.addLast(ReadOnlyFactory.getReadOnly(CopyFactory.getCopy(bomb)));
+            this.plantedBombs = null;
+        }
     }
 
     @Override
     public void reactivateBomb() {
         synchronized (this.bombList) {
             this.bombList.removeFirst();
+            this.plantedList.removeFirst();
+            this.plantedBombs = null;
         }
     }
 
+    @Override
+    public void clear() {
+        synchronized (this.bombList) {
+            this.bombList.clear();
+            this.plantedList.clear();
+            this.plantedBombs = null;
+        }
+        this.bombRange = INITIAL_RANGE;
+        this.maxBombs = INITIAL_BOMBS;
+    }
+
     @Override
     public Bomb getBomb(final Predicate<Bomb> pred) {
         synchronized (this.bombList) {
@@ -94,9 +118,10 @@ public class DetonatorImpl implements Detonator {
     @Override
     public Set<Bomb> getPlantedBombs() {
         synchronized (this.bombList) {
-            return this.bombList.stream().filter(b -> b.isPositioned())
-                    .map(b -> CopyFactory.getCopy(b))
-                    .collect(Collectors.toSet());
+            if (this.plantedBombs == null) {
+                this.plantedBombs = Collections.unmodifiableSet(new LinkedHashSet<>(this.plantedList));
+            }
+            return this.plantedBombs;
         }
     }
 
@@ -23,6 +23,15 @@ public interface Entity extends LevelElement {
      */
     void modifyLife(final int change);
     
+    /**
+     * This method puts the entity in the specified position, without checking the collisions.
+     * It's used to bring back a saved game.
+     * 
+     * @param newPos
+     *          the new position
+     */
+    void update(final Point newPos);
+
     /**
      * This method updates the entity's direction.
      * 
@@ -0,0 +1,202 @@
+package model.units;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+
+/**
+ * An immutable state of an {@link Entity}, taken in a precise moment of the game.
+ * Two states are equal if they were taken from the same entity,
+ * so a state can be used to find what was built from an older state.
+ * The methods that modify the entity throw {@link UnsupportedOperationException}.
+ */
+public class EntityState implements Entity {
+
+    private final Entity source;
+    private final Point position;
+    private final Rectangle hitbox;
+    private final Direction direction;
+    private final boolean moving;
+    private final int attack;
+    private final int score;
+    private final int lives;
+    private final boolean dead;
+
+    /**
+     * Takes the current state of the entity.
+     * 
+     * @param entity
+     *          the entity
+     */
+    public EntityState(final Entity entity) {
+        this.source = entity;
+        this.position = entity.getPosition();
+        this.hitbox = entity.getHitbox();
+        this.direction = entity.getDirection();
+        this.moving = entity.isMoving();
+        this.attack = entity.getAttack();
+        this.score = entity.getScore();
+        this.lives = entity.getRemainingLives();
+        this.dead = entity.isDead();
+    }
+
+    /**
+     * Copies a state, moving it to another position.
+     * 
+     * @param state
+     *          the state to copy
+     * @param position
+     *          the new position
+     */
+    protected EntityState(final EntityState state, final Point position) {
+        this.source = state.source;
+        this.position = new Point(position);
+        this.hitbox = new Rectangle(state.hitbox);
+        this.hitbox.translate(position.x - state.position.x, position.y - state.position.y);
+        this.direction = state.direction;
+        this.moving = state.moving;
+        this.attack = state.attack;
+        this.score = state.score;
+        this.lives = state.lives;
+        this.dead = state.dead;
+    }
+
+    /**
+     * Gets a state between an older state of the same entity and this one,
+     * so that the entity can be drawn between two ticks of the game.
+     * Only the position is interpolated, the rest is taken from this state.
+     * 
+     * @param previous
+     *          the older state
+     * @param alpha
+     *          the fraction of the way from the older state to this one, between 0 and 1
+     * @return the interpolated state, or this state if the older one is of another entity
+     */
+    public EntityState interpolate(final EntityState previous, final double alpha) {
+        return this.isInterpolated(previous, alpha) ? new EntityState(this, this.getPosition(previous, alpha)) : this;
+    }
+
+    /**
+     * Checks if a state must be interpolated with an older state.
+     * 
+     * @param previous
+     *          the older state
+     * @param alpha
+     *          the fraction of the way from the older state to this one
+     * @return true if the older state is of the same entity and in another position
+     */
+    protected boolean isInterpolated(final EntityState previous, final double alpha) {
+        return alpha < 1 && this.equals(previous) && !this.position.equals(previous.position);
+    }
+
+    /**
+     * Gets the position between an older state and this one.
+     * 
+     * @param previous
+     *          the older state
+     * @param alpha
+     *          the fraction of the way from the older state to this one
+     * @return the interpolated position
+     */
+    protected Point getPosition(final EntityState previous, final double alpha) {
+        final double a = Math.max(0, Math.min(1, alpha));
+        return new Point((int) Math.round(previous.position.x + (this.position.x - previous.position.x) * a),
+                (int) Math.round(previous.position.y + (this.position.y - previous.position.y) * a));
+    }
+
+    @Override
+    public Point getPosition() {
+        return new Point(this.position);
+    }
+
+    @Override
+    public Rectangle getHitbox() {
+        return new Rectangle(this.hitbox);
+    }
+
+    @Override
+    public int getX() {
+        return this.position.x;
+    }
+
+    @Override
+    public int getY() {
+        return this.position.y;
+    }
+
+    @Override
+    public void move(final Direction dir) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void modifyLife(final int change) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void update(final Point newPos) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateDirection(final Direction dir) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void increaseAttack(final int attackToAdd) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Point getPossiblePos(final Point pos) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Direction getDirection() {
+        return this.direction;
+    }
+
+    @Override
+    public int getAttack() {
+        return this.attack;
+    }
+
+    @Override
+    public int getScore() {
+        return this.score;
+    }
+
+    @Override
+    public int getRemainingLives() {
+        return this.lives;
+    }
+
+    @Override
+    public boolean isDead() {
+        return this.dead;
+    }
+
+    @Override
+    public boolean isMoving() {
+        return this.moving;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("STATE OF ")
+                .append(this.source)
+                .toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this.source);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof EntityState && this.source == ((EntityState) obj).source;
+    }
+}
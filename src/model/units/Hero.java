@@ -4,6 +4,8 @@ import java.awt.Rectangle;
 import java.util.Set;
 
 import model.level.collision.HeroCollision;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.SpatialHash;
 
 /**
  * This class models a Hero.
@@ -25,6 +27,21 @@ public interface Hero extends Entity {
     void move(final Direction dir, final Set<Rectangle> blockSet, final Set<Rectangle> bombSet,
             final Set<Tile> powerUpSet);
 
+    /**
+     * Implements hero's movement.
+     * 
+     * @param dir
+     *          the direction where to move
+     * @param obstacles
+     *          the index of the obstacles
+     * @param bombs
+     *          the spatial hash of the bombs
+     * @param powerUpSet
+     *          the set of powerups
+     */
+    void move(final Direction dir, final ObstacleIndex obstacles, final SpatialHash<Rectangle> bombs,
+            final Set<Tile> powerUpSet);
+
     
     /**
      * Verifies if hero can plant a bomb in that position.
@@ -104,11 +121,23 @@ public interface Hero extends Entity {
      */
     void setConfusion(final boolean bool);
 
+    /**
+     * Checks if the hero is confused.
+     * 
+     * @return true if he's in confusion, false otherwise
+     */
+    boolean isConfused();
+
     /**
      * Sets the key.
      */
     void setKey();
 
+    /**
+     * Removes the key, when a saved game without it is brought back.
+     */
+    void removeKey();
+
     /**
      * Checks if the hero's got the key.
      * 
@@ -3,10 +3,13 @@ package model.units;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.Random;
 import java.util.Set;
 
 import model.level.collision.HeroCollision;
 import model.level.collision.HeroCollisionImpl;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.SpatialHash;
 import model.utilities.MapPoint;
 
 /**
@@ -28,9 +31,23 @@ public class HeroImpl extends EntityImpl implements Hero {
      *          the dimension of the hitBox
      */
     public HeroImpl(final Point pos, final Dimension dim) {
+        this(pos, dim, new Random());
+    }
+
+    /**
+     * This allow to create a Hero whose random effects follow the specified source.
+     * 
+     * @param pos
+     *          the initial position
+     * @param dim
+     *          the dimension of the hitBox
+     * @param random
+     *          the random source of the game
+     */
+    public HeroImpl(final Point pos, final Dimension dim, final Random random) {
         super(pos, dim);
         this.detonator = new DetonatorImpl(dim);
-        this.heroCollision = new HeroCollisionImpl(this);
+        this.heroCollision = new HeroCollisionImpl(this, random);
         this.inConfusion = false;
         this.key = false;
     }
@@ -46,6 +63,17 @@ public class HeroImpl extends EntityImpl implements Hero {
         }
     }
 
+    @Override
+    public void move(final Direction dir, final ObstacleIndex obstacles, 
+            final SpatialHash<Rectangle> bombs, final Set<Tile> powerUpSet) {
+        this.heroCollision.updateEntityRec(dir);
+        if (this.heroCollision.blockCollision(obstacles) && this.heroCollision.bombCollision(bombs)
+                && this.heroCollision.powerUpCollision(powerUpSet)) {
+            this.setMoving(true);
+            super.move(dir);
+        }
+    }
+
     @Override
     public boolean canPlantBomb(final int nTiles) {
         final Point point = new Point(MapPoint.getCorrectPos(this.getX(), nTiles,
@@ -101,11 +129,21 @@ public class HeroImpl extends EntityImpl implements Hero {
         this.inConfusion = bool;
     }
 
+    @Override
+    public boolean isConfused() {
+        return this.inConfusion;
+    }
+
     @Override
     public void setKey() {
         this.key = true;
     }
 
+    @Override
+    public void removeKey() {
+        this.key = false;
+    }
+
     @Override
     public boolean hasKey() {
         return this.key;
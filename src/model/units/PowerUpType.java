@@ -14,7 +14,7 @@ public enum PowerUpType {
      * Increase attack.
      */
     ATTACK() {
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.increaseAttack(INC);
         }
     },
@@ -23,7 +23,7 @@ public enum PowerUpType {
      * Increase lives. 
      */
     LIFE() {
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.modifyLife(INC);
         }
     },
@@ -33,7 +33,7 @@ public enum PowerUpType {
      */
     BOMB() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.getDetonator().increaseBombs();
         }
     },
@@ -43,7 +43,7 @@ public enum PowerUpType {
      */
     RANGE() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.getDetonator().increaseRange();
         }
     },
@@ -53,7 +53,7 @@ public enum PowerUpType {
      */
     CONFUSION_OFF() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.setConfusion(false);
         }
     },
@@ -63,7 +63,7 @@ public enum PowerUpType {
      */
     CONFUSION_ON() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.setConfusion(true);
         }
     },
@@ -73,7 +73,7 @@ public enum PowerUpType {
      */
     HURT() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.modifyLife(DEC);
         }
     },
@@ -83,13 +83,12 @@ public enum PowerUpType {
      */
     MYSTERY() {
         @Override
-        public void doApply(final Hero hero) {
-            final Random random = new Random();
+        public void doApply(final Hero hero, final Random random) {
             PowerUpType powerup = MYSTERY;
             while (powerup == MYSTERY || powerup == KEY) {
                 powerup = PowerUpType.values()[random.nextInt(PowerUpType.values().length)];
             }
-            powerup.doApply(hero);
+            powerup.doApply(hero, random);
         }
     },
     
@@ -98,7 +97,7 @@ public enum PowerUpType {
      */
     KEY() {
         @Override
-        public void doApply(final Hero hero) {
+        public void doApply(final Hero hero, final Random random) {
             hero.setKey();
         }
     };
@@ -111,9 +110,11 @@ public enum PowerUpType {
      * 
      * @param hero
      *          the entity that benefits powerup's power
+     * @param random
+     *          the random source of the game, for the powerups whose effect is random
      */
-    public void apply(final Hero hero) {
-        this.doApply(hero);
+    public void apply(final Hero hero, final Random random) {
+        this.doApply(hero, random);
     }
     
     /**
@@ -121,8 +122,10 @@ public enum PowerUpType {
      * 
      * @param hero
      *          the hero to who apply power up's effect
+     * @param random
+     *          the random source of the game
      */
-    public abstract void doApply(final Hero hero);
+    public abstract void doApply(final Hero hero, final Random random);
     
 }
 
@@ -0,0 +1,103 @@
+package model.units;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Optional;
+
+/**
+ * An immutable state of a {@link Tile}, taken in a precise moment of the game.
+ * Two states are equal if they have the same position, type and powerup,
+ * so the state of a cell that doesn't change can be kept from a snapshot to the next one.
+ * The methods that modify the tile throw {@link UnsupportedOperationException}.
+ */
+public final class TileState implements Tile {
+
+    private final Point position;
+    private final Rectangle hitbox;
+    private final TileType type;
+    private final Optional<PowerUpType> powerup;
+
+    /**
+     * Takes the current state of the tile.
+     * 
+     * @param tile
+     *          the tile
+     */
+    public TileState(final Tile tile) {
+        this.position = tile.getPosition();
+        this.hitbox = tile.getHitbox();
+        this.type = tile.getType();
+        this.powerup = tile.getPowerup();
+    }
+
+    @Override
+    public Point getPosition() {
+        return new Point(this.position);
+    }
+
+    @Override
+    public Rectangle getHitbox() {
+        return new Rectangle(this.hitbox);
+    }
+
+    @Override
+    public int getX() {
+        return this.position.x;
+    }
+
+    @Override
+    public int getY() {
+        return this.position.y;
+    }
+
+    @Override
+    public TileType getType() {
+        return this.type;
+    }
+
+    @Override
+    public Optional<PowerUpType> getPowerup() {
+        return this.powerup;
+    }
+
+    @Override
+    public void setType(final TileType newType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setKeyPowerUp() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removePowerUp() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("STATE OF TILE -  ")
+                .append("Type is: ")
+                .append(this.type)
+                .append("; PowerUp is: ")
+                .append(this.powerup)
+                .append("; Position: (")
+                .append(this.position.x)
+                .append(", ")
+                .append(this.position.y)
+                .append(").")
+                .toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.position.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof TileState && this.position.equals(((TileState) obj).position)
+                && this.type == ((TileState) obj).type && this.powerup.equals(((TileState) obj).powerup);
+    }
+}
@@ -4,6 +4,8 @@ import java.awt.Rectangle;
 import java.util.Set;
 
 import model.level.collision.EnemyCollision;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.SpatialHash;
 import model.units.Direction;
 import model.units.Entity;
 import model.units.Hero;
@@ -26,6 +28,20 @@ public interface Enemy extends Entity {
      */
     void move(final Direction dir, final Set<Rectangle> blockSet, final Hero hero, 
             final Set<Rectangle> bombSet);
+
+    /**
+     * Enemies' movement.
+     * @param dir
+     *          the direction that enemies want to go
+     * @param obstacles
+     *          the index of the obstacles
+     * @param hero
+     *          the Hero entity
+     * @param bombs
+     *          the spatial hash of the bombs planted
+     */
+    void move(final Direction dir, final ObstacleIndex obstacles, final Hero hero, 
+            final SpatialHash<Rectangle> bombs);
     
     /**
      * This method chooses a random direction.
@@ -46,6 +62,20 @@ public interface Enemy extends Entity {
      */
     void updateMove(final Set<Rectangle> blockSet, final Hero hero, final Direction dir, 
             final Set<Rectangle> bombSet);
+
+    /**
+     * This method updates the enemies movement.
+     * @param obstacles
+     *          the index of the obstacles
+     * @param hero
+     *          the Hero entity
+     * @param dir
+     *          the direction where to go to the enemy 
+     * @param bombs
+     *          the spatial hash of the bombs planted
+     */
+    void updateMove(final ObstacleIndex obstacles, final Hero hero, final Direction dir, 
+            final SpatialHash<Rectangle> bombs);
     
     /**
      * This method return the type of enemy.
@@ -8,6 +8,8 @@ import java.util.Set;
 
 import model.level.collision.EnemyCollision;
 import model.level.collision.EnemyCollisionImpl;
+import model.level.collision.ObstacleIndex;
+import model.level.collision.SpatialHash;
 import model.units.Direction;
 import model.units.EntityImpl;
 import model.units.Hero;
@@ -19,9 +21,10 @@ public class EnemyImpl extends EntityImpl implements Enemy {
     
     private final EnemyCollision enemyCollision;
     private final EnemyType enemyType;
+    private final Random random;
     
     /**
-     * Constructor of EnemyImpl.
+     * Constructor of EnemyImpl, with its own random source.
      * @param pos
      *          the initial position
      * @param dim
@@ -31,7 +34,24 @@ public class EnemyImpl extends EntityImpl implements Enemy {
      */
     public EnemyImpl(final Point pos, final Dimension dim, 
             final EnemyType enemyType) {
+        this(pos, dim, enemyType, new Random());
+    }
+
+    /**
+     * Constructor of EnemyImpl.
+     * @param pos
+     *          the initial position
+     * @param dim
+     *          the dimension of the hitBox
+     * @param enemyType
+     *          the type of enemy
+     * @param random
+     *          the random source of the game, that chooses the directions
+     */
+    public EnemyImpl(final Point pos, final Dimension dim, 
+            final EnemyType enemyType, final Random random) {
         super(pos, dim);
+        this.random = random;
         this.enemyCollision = new EnemyCollisionImpl(this);
         this.enemyType = enemyType;
         super.modifyLife(this.enemyType.getEnemyLives() - 1);
@@ -43,34 +63,59 @@ public class EnemyImpl extends EntityImpl implements Enemy {
     public void move(final Direction dir, final Set<Rectangle> blockSet, final Hero hero, 
             final Set<Rectangle> bombSet) {
         this.enemyCollision.updateEntityRec(dir);
-        if (this.enemyCollision.blockCollision(blockSet) 
-                && this.enemyCollision.bombCollision(bombSet) 
-                && this.enemyCollision.heroCollision(hero)) {
+        this.moveIfFree(dir, this.enemyCollision.blockCollision(blockSet) 
+                && this.enemyCollision.bombCollision(bombSet), hero);
+    }
+
+    @Override
+    public void move(final Direction dir, final ObstacleIndex obstacles, final Hero hero, 
+            final SpatialHash<Rectangle> bombs) {
+        this.enemyCollision.updateEntityRec(dir);
+        this.moveIfFree(dir, this.enemyCollision.blockCollision(obstacles) 
+                && this.enemyCollision.bombCollision(bombs), hero);
+    }
+
+    /**
+     * This method moves the enemy if it doesn't collide with the hero.
+     * @param dir
+     *          the direction where to move
+     * @param free
+     *          true if the enemy doesn't collide with blocks and bombs
+     * @param hero
+     *          the hero's entity
+     */
+    private void moveIfFree(final Direction dir, final boolean free, final Hero hero) {
+        if (free && this.enemyCollision.heroCollision(hero)) {
             super.move(dir);
         }
     }
     
     /**
      * This method checks if the enemy collides with blocks or with the hero or with planted bombs.
-     * @param blockSet
-     *          the set of blocks that are in the map
+     * @param free
+     *          true if the enemy doesn't collide with blocks and bombs
      * @param hero
      *          the hero's entity
-     * @param bombSet
-     *          the set of planted bombs
      * @return false if it collides, true otherwise
      */
-    private boolean checkCollision(final Set<Rectangle> blockSet, final Hero hero, 
-            final Set<Rectangle> bombSet) {
-        return this.enemyCollision.blockCollision(blockSet) 
-                && this.enemyCollision.bombCollision(bombSet) 
-                && this.enemyCollision.heroCollision(hero) ? false : true;
+    private boolean checkCollision(final boolean free, final Hero hero) {
+        return free && this.enemyCollision.heroCollision(hero) ? false : true;
     }
    
     @Override
     public void updateMove(final Set<Rectangle> blockSet, final Hero hero, 
             final Direction dir, final Set<Rectangle> bombSet) {
-        this.move(this.getNewDirection(blockSet, hero, dir, bombSet), blockSet, hero, bombSet);
+        this.enemyCollision.updateEntityRec(super.getDirection());
+        this.move(this.getNewDirection(this.enemyCollision.blockCollision(blockSet) 
+                && this.enemyCollision.bombCollision(bombSet), hero, dir), blockSet, hero, bombSet);
+    }
+
+    @Override
+    public void updateMove(final ObstacleIndex obstacles, final Hero hero, 
+            final Direction dir, final SpatialHash<Rectangle> bombs) {
+        this.enemyCollision.updateEntityRec(super.getDirection());
+        this.move(this.getNewDirection(this.enemyCollision.blockCollision(obstacles) 
+                && this.enemyCollision.bombCollision(bombs), hero, dir), obstacles, hero, bombs);
     }
 
     @Override
@@ -81,8 +126,10 @@ public class EnemyImpl extends EntityImpl implements Enemy {
     
     /**
      * This method returns a different direction from the current direction if it collides.
-     * @param blockSet
-     *          the set of blocks that are in the map
+     * The collision is checked on the next step in the current direction, so the choice depends
+     * only on the position and the direction of the enemy, that are all a saved game keeps.
+     * @param free
+     *          true if the enemy doesn't collide with blocks and bombs
      * @param hero
      *          the hero's entity
      * @param dir
@@ -90,9 +137,8 @@ public class EnemyImpl extends EntityImpl implements Enemy {
      * @return the direction where the enemy 
      *          must go
      */
-    private Direction getNewDirection(final Set<Rectangle> blockSet, final Hero hero, 
-            final Direction dir, final Set<Rectangle> bombSet) {
-        if (this.checkCollision(blockSet, hero, bombSet)) {
+    private Direction getNewDirection(final boolean free, final Hero hero, final Direction dir) {
+        if (this.checkCollision(free, hero)) {
             return dir;
         }
         return super.getDirection();
@@ -101,7 +147,7 @@ public class EnemyImpl extends EntityImpl implements Enemy {
     @Override
     public Direction getRandomDirection() {
         final Direction[] vet = Direction.values();
-        return vet[new Random().nextInt(vet.length)];
+        return vet[this.random.nextInt(vet.length)];
     }
     
     @Override
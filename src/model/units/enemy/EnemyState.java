@@ -0,0 +1,51 @@
+package model.units.enemy;
+
+import java.awt.Point;
+
+import model.units.EntityState;
+
+/**
+ * An immutable state of an {@link Enemy}, taken in a precise moment of the game.
+ */
+public class EnemyState extends EntityState {
+
+    private final EnemyType enemyType;
+
+    /**
+     * Takes the current state of the enemy.
+     * 
+     * @param enemy
+     *          the enemy
+     */
+    public EnemyState(final Enemy enemy) {
+        super(enemy);
+        this.enemyType = enemy.getEnemyType();
+    }
+
+    /**
+     * Copies a state, moving it to another position.
+     * 
+     * @param state
+     *          the state to copy
+     * @param position
+     *          the new position
+     */
+    protected EnemyState(final EnemyState state, final Point position) {
+        super(state, position);
+        this.enemyType = state.enemyType;
+    }
+
+    @Override
+    public EnemyState interpolate(final EntityState previous, final double alpha) {
+        return this.isInterpolated(previous, alpha) ? new EnemyState(this, this.getPosition(previous, alpha)) : this;
+    }
+
+    /**
+     * This method returns the type of the enemy.
+     * 
+     * @return the enemy's type
+     */
+    public EnemyType getEnemyType() {
+        return this.enemyType;
+    }
+}
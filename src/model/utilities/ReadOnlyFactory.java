@@ -0,0 +1,194 @@
+package model.utilities;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Optional;
+
+import model.units.Bomb;
+import model.units.PowerUpType;
+import model.units.Tile;
+import model.units.TileType;
+
+/**
+ * This class is used to get a read-only view
+ * of a static game element.
+ * Unlike a copy, a view doesn't allocate a new element:
+ * it reads the state of the original one, but it can't modify it.
+ */
+public final class ReadOnlyFactory {
+
+    private ReadOnlyFactory() { }
+
+    /**
+     * Gets a read-only view of a tile.
+     * 
+     * @param tile
+     *          the tile to wrap
+     * @return the read-only tile
+     */
+    public static Tile getReadOnly(final Tile tile) {
+        return new ReadOnlyTile(tile);
+    }
+
+    /**
+     * Gets a read-only view of a bomb.
+     * 
+     * @param bomb
+     *          the bomb to wrap
+     * @return the read-only bomb
+     */
+    public static Bomb getReadOnly(final Bomb bomb) {
+        return new ReadOnlyBomb(bomb);
+    }
+
+    /**
+     * A {@link Tile} whose setters throw an {@link UnsupportedOperationException}.
+     */
+    private static final class ReadOnlyTile implements Tile {
+
+        private final Tile tile;
+
+        /**
+         * Constructs a read-only view of the tile.
+         * 
+         * @param tile
+         *          the tile to wrap
+         */
+        ReadOnlyTile(final Tile tile) {
+            this.tile = tile;
+        }
+
+        @Override
+        public Point getPosition() {
+            return this.tile.getPosition();
+        }
+
+        @Override
+        public Rectangle getHitbox() {
+            return this.tile.getHitbox();
+        }
+
+        @Override
+        public int getX() {
+            return this.tile.getX();
+        }
+
+        @Override
+        public int getY() {
+            return this.tile.getY();
+        }
+
+        @Override
+        public TileType getType() {
+            return this.tile.getType();
+        }
+
+        @Override
+        public Optional<PowerUpType> getPowerup() {
+            return this.tile.getPowerup();
+        }
+
+        @Override
+        public void setType(final TileType newType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setKeyPowerUp() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removePowerUp() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String toString() {
+            return this.tile.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.tile.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ReadOnlyTile && this.tile.equals(((ReadOnlyTile) obj).tile);
+        }
+    }
+
+    /**
+     * A {@link Bomb} whose setters throw an {@link UnsupportedOperationException}.
+     */
+    private static final class ReadOnlyBomb implements Bomb {
+
+        private final Bomb bomb;
+
+        /**
+         * Constructs a read-only view of the bomb.
+         * 
+         * @param bomb
+         *          the bomb to wrap
+         */
+        ReadOnlyBomb(final Bomb bomb) {
+            this.bomb = bomb;
+        }
+
+        @Override
+        public Point getPosition() {
+            return this.bomb.getPosition();
+        }
+
+        @Override
+        public Rectangle getHitbox() {
+            return this.bomb.getHitbox();
+        }
+
+        @Override
+        public int getX() {
+            return this.bomb.getX();
+        }
+
+        @Override
+        public int getY() {
+            return this.bomb.getY();
+        }
+
+        @Override
+        public int getRange() {
+            return this.bomb.getRange();
+        }
+
+        @Override
+        public void setRange(final int range) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPlanted(final boolean bool) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isPositioned() {
+            return this.bomb.isPositioned();
+        }
+
+        @Override
+        public String toString() {
+            return this.bomb.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.bomb.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ReadOnlyBomb && this.bomb.equals(((ReadOnlyBomb) obj).bomb);
+        }
+    }
+}
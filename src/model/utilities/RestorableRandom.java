@@ -0,0 +1,68 @@
+package model.utilities;
+
+import java.util.Random;
+
+/**
+ * A {@link Random} whose state can be read and set again, to save and restore a game.
+ * It generates exactly the same numbers of {@link Random} for the same seed,
+ * because it uses the same linear congruential generator, but it keeps the state in its own field.
+ */
+public class RestorableRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    private static final int STATE_BITS = 48;
+
+    private long state;
+
+    /**
+     * Constructs a new RestorableRandom with a random seed.
+     */
+    public RestorableRandom() {
+        super();
+    }
+
+    /**
+     * Constructs a new RestorableRandom.
+     *
+     * @param seed
+     *          the initial seed
+     */
+    public RestorableRandom(final long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed) {
+        super.setSeed(seed);
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(final int bits) {
+        this.state = (this.state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (this.state >>> (STATE_BITS - bits));
+    }
+
+    /**
+     * Gets the current state of the generator.
+     *
+     * @return the state
+     */
+    public long getState() {
+        return this.state;
+    }
+
+    /**
+     * Sets the state of the generator, so that it generates again the numbers
+     * that followed the moment the state was read.
+     *
+     * @param state
+     *          a state returned by {@link #getState()}
+     */
+    public void setState(final long state) {
+        this.state = state & MASK;
+    }
+}
@@ -1,7 +1,9 @@
 package view;
 
 import java.awt.Graphics;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 
 import javax.swing.ImageIcon;
@@ -214,6 +216,25 @@ public final class ImageLoader {
         return createImage(img).getScaledInstance(width, height, Image.SCALE_DEFAULT);
     }
 
+    /**
+     * Creates an empty translucent BufferedImage with the same format of the screen,
+     * so that it can be drawn without conversions.
+     * If there isn't a screen, a standard ARGB image is created.
+     * 
+     * @param width
+     *          the width of the image
+     * @param height
+     *          the height of the image
+     * @return the new BufferedImage
+     */
+    public static BufferedImage createCompatibleImage(final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
     /**
      * Creates a BufferedImage from the specified GameImage.
      * 
@@ -29,5 +29,9 @@ public enum InputAction {
     /**
      * Pausing the game.
      */
-    PAUSE;
+    PAUSE,
+    /**
+     * Going back in time, while it's held.
+     */
+    REWIND;
 }
@@ -5,15 +5,19 @@ import java.awt.event.KeyEvent;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+
+import controller.simulation.InputSource;
 
 /**
  * This class handles the keyboard input for the actions that can be performed
  * in the game.
  * 
  */
-public final class InputHandler extends KeyAdapter {
+public final class InputHandler extends KeyAdapter implements InputSource {
 
     private final EnumMap<InputAction, Boolean> inputs = new EnumMap<>(InputAction.class);
+    private Optional<Runnable> onChange = Optional.empty();
 
     private static final Map<Integer, InputAction> MAP;
     static {
@@ -28,6 +32,7 @@ public final class InputHandler extends KeyAdapter {
         MAP.put(KeyEvent.VK_A, InputAction.MOVE_LEFT);
         MAP.put(KeyEvent.VK_SPACE, InputAction.PLANT_BOMB);     // Plant a bomb
         MAP.put(KeyEvent.VK_P, InputAction.PAUSE);              // Pause the game
+        MAP.put(KeyEvent.VK_R, InputAction.REWIND);             // Rewind the game
     }
 
     /**
@@ -43,6 +48,7 @@ public final class InputHandler extends KeyAdapter {
     public void keyPressed(final KeyEvent evt) {
         if (MAP.containsKey(evt.getKeyCode())) {
             this.inputs.put(MAP.get(evt.getKeyCode()), true);
+            this.onChange.ifPresent(Runnable::run);
         }
     }
 
@@ -50,9 +56,20 @@ public final class InputHandler extends KeyAdapter {
     public void keyReleased(final KeyEvent evt) {
         if (MAP.containsKey(evt.getKeyCode())) {
             this.inputs.put(MAP.get(evt.getKeyCode()), false);
+            this.onChange.ifPresent(Runnable::run);
         }
     }
 
+    /**
+     * Sets an action to run every time a key of the game is pressed or released.
+     * 
+     * @param action
+     *          the action to run
+     */
+    public void setOnChange(final Runnable action) {
+        this.onChange = Optional.of(action);
+    }
+
     /**
      * Checks if the key associated with the specified {@link InputAction} is pressed or not.
      * 
@@ -60,7 +77,8 @@ public final class InputHandler extends KeyAdapter {
      *          the input action to check
      * @return true if the key is pressed, false otherwise
      */
-    public Boolean isInputActive(final InputAction input) {
+    @Override
+    public boolean isInputActive(final InputAction input) {
         return this.inputs.get(input);
     }
     
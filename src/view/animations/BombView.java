@@ -1,6 +1,5 @@
 package view.animations;
 
-import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.util.List;
 
@@ -14,8 +13,6 @@ import view.animations.unit.Sprite;
  */
 public class BombView extends AbstractSingleAnimationView {
 
-    private static final List<BufferedImage> BOMB_TRIGGER = Sprite.getSprites(new Point(10, 0), new Point(11, 0), new Point(12, 0));
-
     private final Bomb bomb;
     
     /**
@@ -35,7 +32,7 @@ public class BombView extends AbstractSingleAnimationView {
     
     @Override
     public List<BufferedImage> animationFrames() {
-        return BOMB_TRIGGER;
+        return Sprite.getSprites(0, 10, 3);
     }
     
     @Override
@@ -1,6 +1,5 @@
 package view.animations;
 
-import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.util.List;
 
@@ -15,9 +14,6 @@ import view.animations.unit.Sprite;
  */
 public class ExplosionView extends AbstractSingleAnimationView {
 
-    private static final List<BufferedImage> EXPLOSION = Sprite.getSprites(new Point(10, 1), new Point(11, 1), new Point(12, 1),
-            new Point(13, 1), new Point(14, 1), new Point(15, 1), new Point(16, 1), new Point(17, 1));
-
     private final Tile tile;
     
     /**
@@ -37,7 +33,7 @@ public class ExplosionView extends AbstractSingleAnimationView {
 
     @Override
     public List<BufferedImage> animationFrames() {
-        return EXPLOSION;
+        return Sprite.getSprites(1, 10, 8);
     }
     
     @Override
@@ -2,6 +2,7 @@ package view.animations;
 
 import java.awt.Point;
 
+import model.units.Entity;
 import model.units.Hero;
 import view.animations.unit.EntityAnimationView;
 
@@ -15,4 +16,12 @@ public interface HeroView extends EntityAnimationView {
      * @return the center point of the sprite associated to the hero.
      */
     Point getCenterPoint();
+
+    /**
+     * Updates the view with the last state of the hero.
+     * 
+     * @param hero
+     *          the new state of the hero
+     */
+    void update(Entity hero);
 }
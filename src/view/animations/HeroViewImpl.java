@@ -6,7 +6,7 @@ import java.util.EnumMap;
 import java.util.List;
 
 import model.units.Direction;
-import model.units.Hero;
+import model.units.Entity;
 import view.animations.unit.AbstractEntityView;
 import view.animations.unit.Sprite;
 
@@ -17,20 +17,7 @@ import view.animations.unit.Sprite;
  */
 public class HeroViewImpl extends AbstractEntityView implements HeroView {
 
-    private static final EnumMap<Direction, List<BufferedImage>> MOVEMENT_MAP = new EnumMap<>(Direction.class);
-    private static final EnumMap<Direction, List<BufferedImage>> STANDING_MAP = new EnumMap<>(Direction.class);
-    static {
-        MOVEMENT_MAP.put(Direction.DOWN, Sprite.getSprites(new Point(0, 0), new Point(1, 0), new Point(2, 0), new Point(3, 0), new Point(4, 0)));
-        MOVEMENT_MAP.put(Direction.RIGHT, Sprite.getSprites(new Point(0, 1), new Point(1, 1), new Point(2, 1), new Point(3, 1), new Point(4, 1)));
-        MOVEMENT_MAP.put(Direction.UP, Sprite.getSprites(new Point(0, 2), new Point(1, 2), new Point(2, 2), new Point(3, 2), new Point(4, 2)));
-        MOVEMENT_MAP.put(Direction.LEFT, Sprite.getSprites(new Point(0, 3), new Point(1, 3), new Point(2, 3), new Point(3, 3), new Point(4, 3)));
-        STANDING_MAP.put(Direction.DOWN, Sprite.getSprites(new Point(6, 0), new Point(7, 0), new Point(8, 0)));
-        STANDING_MAP.put(Direction.RIGHT, Sprite.getSprites(new Point(6, 1), new Point(7, 1), new Point(8, 1)));
-        STANDING_MAP.put(Direction.UP, Sprite.getSprites(new Point(6, 2), new Point(7, 2), new Point(8, 2)));
-        STANDING_MAP.put(Direction.LEFT, Sprite.getSprites(new Point(6, 3), new Point(7, 3), new Point(8, 3)));
-    }
-    
-    private final Hero hero;
+    private Entity hero;
     
     /**
      * Constructs a new view for the hero.
@@ -40,10 +27,16 @@ public class HeroViewImpl extends AbstractEntityView implements HeroView {
      * @param fps
      *          the number of frame-per-second
      */
-    public HeroViewImpl(final Hero hero, final int fps) {
+    public HeroViewImpl(final Entity hero, final int fps) {
         super(hero, fps);
         this.hero = hero;
     }
+
+    @Override
+    public void update(final Entity hero) {
+        super.setEntity(hero);
+        this.hero = hero;
+    }
     
     @Override
     public Point getCenterPoint() {
@@ -53,16 +46,26 @@ public class HeroViewImpl extends AbstractEntityView implements HeroView {
 
     @Override
     public EnumMap<Direction, List<BufferedImage>> movementFrames() {
-        return MOVEMENT_MAP;
+        final EnumMap<Direction, List<BufferedImage>> frames = new EnumMap<>(Direction.class);
+        frames.put(Direction.DOWN, Sprite.getSprites(0, 0, 5));
+        frames.put(Direction.RIGHT, Sprite.getSprites(1, 0, 5));
+        frames.put(Direction.UP, Sprite.getSprites(2, 0, 5));
+        frames.put(Direction.LEFT, Sprite.getSprites(3, 0, 5));
+        return frames;
     }
 
     @Override
     public EnumMap<Direction, List<BufferedImage>> standingFrames() {
-        return STANDING_MAP;
+        final EnumMap<Direction, List<BufferedImage>> frames = new EnumMap<>(Direction.class);
+        frames.put(Direction.DOWN, Sprite.getSprites(0, 6, 3));
+        frames.put(Direction.RIGHT, Sprite.getSprites(1, 6, 3));
+        frames.put(Direction.UP, Sprite.getSprites(2, 6, 3));
+        frames.put(Direction.LEFT, Sprite.getSprites(3, 6, 3));
+        return frames;
     }
     
     @Override
-    public Hero getLevelElement() {
+    public Entity getLevelElement() {
         return this.hero;
     }
 }
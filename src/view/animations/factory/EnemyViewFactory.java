@@ -1,6 +1,6 @@
 package view.animations.factory;
 
-import model.units.enemy.Enemy;
+import model.units.enemy.EnemyState;
 import view.animations.BallomView;
 import view.animations.MinvoView;
 import view.animations.PassView;
@@ -24,7 +24,7 @@ public class EnemyViewFactory {
      *          the number of frame per second
      * @return the view associated to the enemy's type
      */
-    public AbstractEnemyView createEnemyView(final Enemy enemy, final int fps) {
+    public AbstractEnemyView createEnemyView(final EnemyState enemy, final int fps) {
         switch(enemy.getEnemyType()) {
         case BALLOM:
             return new BallomView(enemy, fps);
@@ -1,6 +1,7 @@
 package view.animations.unit;
 
 import java.awt.Image;
+import java.awt.Rectangle;
 import java.util.Objects;
 
 import model.units.LevelElement;
@@ -13,7 +14,7 @@ import model.units.LevelElement;
  */
 public abstract class AbstractAnimationView implements AnimationView {
 
-    private final LevelElement element;
+    private LevelElement element;
     
     /**
      * Constructs a new abstract AnimationView.
@@ -25,6 +26,16 @@ public abstract class AbstractAnimationView implements AnimationView {
         this.element = Objects.requireNonNull(element);
     }
     
+    /**
+     * Replaces the represented element with a newer state of the same element.
+     * 
+     * @param element
+     *          the new state of the element
+     */
+    protected void setLevelElement(final LevelElement element) {
+        this.element = Objects.requireNonNull(element);
+    }
+
     /**
      * @return the current animation to manage.
      */
@@ -32,9 +43,9 @@ public abstract class AbstractAnimationView implements AnimationView {
     
     @Override
     public Image getImage() {
-        return getAnimation().getCurrentFrame()
-                .getScaledInstance(this.element.getHitbox().width,
-                        (this.element.getHitbox().height * Sprite.getSpriteHeight()) / Sprite.getSpriteWidth(), Image.SCALE_DEFAULT);
+        final Rectangle hitbox = this.element.getHitbox();
+        return ScaledSprites.getScaled(getAnimation().getCurrentFrame(), hitbox.width,
+                (hitbox.height * Sprite.getSpriteHeight()) / Sprite.getSpriteWidth());
     }
 
     @Override
@@ -8,7 +8,7 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
 import model.units.Entity;
-import model.units.enemy.Enemy;
+import model.units.enemy.EnemyState;
 import view.GUIFactory;
 
 /**
@@ -19,7 +19,7 @@ import view.GUIFactory;
  */
 public abstract class AbstractEnemyView extends AbstractEntityView {
 
-    private final Enemy enemy;
+    private EnemyState enemy;
     
     /**
      * Constructs a new enemy view.
@@ -29,11 +29,22 @@ public abstract class AbstractEnemyView extends AbstractEntityView {
      * @param fps
      *          the number of frame-per-second
      */
-    public AbstractEnemyView(final Enemy enemy, final int fps) {
+    public AbstractEnemyView(final EnemyState enemy, final int fps) {
         super(enemy, fps);
         this.enemy = enemy;
     }
 
+    /**
+     * Updates the view with the last state of the enemy.
+     * 
+     * @param enemy
+     *          the new state of the enemy
+     */
+    public void update(final EnemyState enemy) {
+        super.setEntity(enemy);
+        this.enemy = enemy;
+    }
+
     @Override
     public Image getImage() {
         final Font font = new GUIFactory.Standard().getLifeDetailFont();
@@ -62,7 +73,7 @@ public abstract class AbstractEnemyView extends AbstractEntityView {
     }
     
     @Override
-    public Enemy getLevelElement() {
+    public EnemyState getLevelElement() {
         return this.enemy;
     }
 }
@@ -25,7 +25,7 @@ public abstract class AbstractEntityView extends AbstractAnimationView implement
     private final EnumMap<Direction, Animation> movementAnimations = new EnumMap<>(Direction.class);
     private final EnumMap<Direction, Animation> standingAnimations = new EnumMap<>(Direction.class);
 
-    private final Entity entity;
+    private Entity entity;
     private Optional<Animation> currAnimation;
 
     /**
@@ -47,6 +47,17 @@ public abstract class AbstractEntityView extends AbstractAnimationView implement
         updateAnimation();
     }
 
+    /**
+     * Replaces the represented entity with a newer state of the same entity.
+     * 
+     * @param entity
+     *          the new state of the entity
+     */
+    protected void setEntity(final Entity entity) {
+        super.setLevelElement(entity);
+        this.entity = entity;
+    }
+
     @Override
     public abstract EnumMap<Direction, List<BufferedImage>> movementFrames();
 
@@ -0,0 +1,104 @@
+package view.animations.unit;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import view.ImageLoader;
+
+/**
+ * This utility class keeps the sprites already scaled to the size they are drawn with.
+ * A sprite is scaled only the first time it is requested with a certain size,
+ * into an image compatible with the screen, and then it is reused.
+ *
+ */
+public final class ScaledSprites {
+
+    private static final Map<Key, BufferedImage> CACHE = new ConcurrentHashMap<>();
+
+    private ScaledSprites() { }
+
+    /**
+     * Gets the sprite scaled to the specified size.
+     * 
+     * @param sprite
+     *          the sprite to scale
+     * @param width
+     *          the width of the scaled sprite
+     * @param height
+     *          the height of the scaled sprite
+     * @return the scaled sprite
+     */
+    public static BufferedImage getScaled(final BufferedImage sprite, final int width, final int height) {
+        return CACHE.computeIfAbsent(new Key(sprite, width, height), k -> scale(sprite, width, height));
+    }
+
+    /**
+     * Removes all the scaled sprites.
+     * It should be called when the size of the tiles changes.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Scales the sprite into a new image.
+     * 
+     * @param sprite
+     *          the sprite to scale
+     * @param width
+     *          the width of the new image
+     * @param height
+     *          the height of the new image
+     * @return the new image
+     */
+    private static BufferedImage scale(final BufferedImage sprite, final int width, final int height) {
+        final BufferedImage image = ImageLoader.createCompatibleImage(width, height);
+        final Graphics2D g = image.createGraphics();
+        g.drawImage(sprite, 0, 0, width, height, null);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * The key of a scaled sprite: the original sprite and the size.
+     */
+    private static final class Key {
+
+        private final BufferedImage sprite;
+        private final int width;
+        private final int height;
+
+        /**
+         * Constructs the key of a scaled sprite.
+         * 
+         * @param sprite
+         *          the original sprite
+         * @param width
+         *          the width
+         * @param height
+         *          the height
+         */
+        Key(final BufferedImage sprite, final int width, final int height) {
+            this.sprite = sprite;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = System.identityHashCode(this.sprite);
+            result = prime * result + this.width;
+            result = prime * result + this.height;
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key && this.sprite == ((Key) obj).sprite
+                    && this.width == ((Key) obj).width && this.height == ((Key) obj).height;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package view.animations.unit;
 
+import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
@@ -13,12 +14,14 @@ import view.ImageLoader.GameImage;
 /**
  * This utility class is used to get one or more sprites of the game
  * from the sprite-sheet.
+ * The first time a sprite is requested, the whole sheet is sliced into an atlas
+ * of standalone images, compatible with the screen, indexed by their position in the grid.
  *
  */
 public final class Sprite {
 
-    // The sheet containing all the sprite images of the game
-    private static volatile BufferedImage spriteSheet;
+    // The sprites of the sheet, by row and column
+    private static volatile BufferedImage[][] atlas;
 
     // The dimension of each sprite in the sheet
     private static final int SPRITE_HEIGHT = 31;
@@ -26,6 +29,45 @@ public final class Sprite {
 
     private Sprite() { }
 
+    /**
+     * @return the atlas of the sprites, sliced from the sheet if it's the first call.
+     */
+    private static BufferedImage[][] getAtlas() {
+        if (atlas == null) {
+            synchronized (Sprite.class) {
+                if (atlas == null) {
+                    atlas = slice(ImageLoader.createBufferedImage(GameImage.SPRITE_SHEET));
+                }
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Slices the sheet into a grid of sprites.
+     * Each sprite is copied into a new image, so it doesn't share the raster of the sheet.
+     * 
+     * @param sheet
+     *          the sprite-sheet
+     * @return the sprites, by row and column
+     */
+    private static BufferedImage[][] slice(final BufferedImage sheet) {
+        final int rows = sheet.getHeight() / SPRITE_HEIGHT;
+        final int columns = sheet.getWidth() / SPRITE_WIDTH;
+        final BufferedImage[][] sprites = new BufferedImage[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final BufferedImage sprite = ImageLoader.createCompatibleImage(SPRITE_WIDTH, SPRITE_HEIGHT);
+                final Graphics2D g = sprite.createGraphics();
+                g.drawImage(sheet.getSubimage(column * SPRITE_WIDTH, row * SPRITE_HEIGHT, SPRITE_WIDTH, SPRITE_HEIGHT),
+                        0, 0, null);
+                g.dispose();
+                sprites[row][column] = sprite;
+            }
+        }
+        return sprites;
+    }
+
     /**
      * This method returns the sprite in the specified position of the sheet.
      * 
@@ -34,14 +76,7 @@ public final class Sprite {
      * @return the sprite image
      */
     public static BufferedImage getSprite(final Point pointGrid) {
-        if (spriteSheet == null) {
-            synchronized (Sprite.class) {
-                if (spriteSheet == null) {
-                    spriteSheet = ImageLoader.createBufferedImage(GameImage.SPRITE_SHEET);
-                }
-            }
-        }
-        return spriteSheet.getSubimage(pointGrid.x * SPRITE_WIDTH, pointGrid.y * SPRITE_HEIGHT, SPRITE_WIDTH, SPRITE_HEIGHT);
+        return getAtlas()[pointGrid.y][pointGrid.x];
     }
 
     /**
@@ -56,6 +91,21 @@ public final class Sprite {
                 .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
     }
 
+    /**
+     * This method returns consecutive sprites of a row of the sheet.
+     * 
+     * @param row
+     *          the row of the sprites
+     * @param firstColumn
+     *          the column of the first sprite
+     * @param nSprites
+     *          the number of sprites
+     * @return a list with the sprites, from left to right
+     */
+    public static List<BufferedImage> getSprites(final int row, final int firstColumn, final int nSprites) {
+        return Collections.unmodifiableList(Arrays.asList(getAtlas()[row]).subList(firstColumn, firstColumn + nSprites));
+    }
+
     /**
      * @return the height of a sprite.
      */
@@ -1,5 +1,12 @@
 package view.game;
 
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 import view.LanguageHandler;
 import view.SoundEffect;
 
@@ -86,4 +93,42 @@ public interface DrawableFrame {
      * Clears the message.
      */
     void clearMessage();
+
+    /**
+     * Enables the active rendering: the game is drawn on a canvas
+     * by the caller of {@link #render(Consumer)}, instead of waiting for Swing to repaint it.
+     * The messages are drawn on the canvas too.
+     *
+     * @param size
+     *          the size of the canvas
+     * @return the canvas, to add to the frame
+     */
+    Canvas enableActiveRendering(Dimension size);
+
+    /**
+     * Changes the size of the canvas used for the active rendering.
+     * The frame is laid out again on the event dispatch thread, and the method returns when it's done.
+     *
+     * @param size
+     *          the new size of the canvas
+     */
+    void resizeCanvas(Dimension size);
+
+    /**
+     * Draws a frame on the canvas and shows it, flipping the buffers.
+     * It does nothing if the active rendering isn't enabled.
+     *
+     * @param renderer
+     *          the function that draws the game
+     */
+    void render(Consumer<Graphics2D> renderer);
+
+    /**
+     * Sets something to draw over the game, under the messages, at every frame.
+     * It receives the graphics and the size of the whole frame's content.
+     *
+     * @param overlay
+     *          the function that draws the overlay, or an empty value to remove it
+     */
+    void setOverlay(Optional<BiConsumer<Graphics2D, Dimension>> overlay);
 }
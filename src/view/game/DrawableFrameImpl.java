@@ -1,17 +1,31 @@
 package view.game;
 
+import java.awt.AWTException;
 import java.awt.AlphaComposite;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.ImageCapabilities;
+import java.awt.Point;
 import java.awt.RenderingHints;
+import java.awt.Toolkit;
 import java.awt.font.FontRenderContext;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import javax.swing.JComponent;
 import javax.swing.JFrame;
+import javax.swing.JLayeredPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
@@ -21,6 +35,8 @@ import view.GUIFactory;
  * This class is an implementation of {@link DrawableFrame}.
  * It handles a custom {@link JFrame} that support the displaying of messages and their cleaning.
  * It uses Graphics2D to work.
+ * The overlay is drawn by a transparent component above the content of the frame,
+ * or directly on the canvas when the active rendering is enabled.
  *
  */
 public class DrawableFrameImpl extends JFrame implements DrawableFrame {
@@ -30,7 +46,15 @@ public class DrawableFrameImpl extends JFrame implements DrawableFrame {
      */
     private static final long serialVersionUID = -4905480110288926483L;
 
+    private static final int N_BUFFERS = 2;
+
     private final JPanel overlayPanel;
+    private final OverlayComponent overlayComponent;
+    private volatile Optional<BiConsumer<Graphics2D, Dimension>> overlay;
+    private Optional<Canvas> canvas;
+    private Optional<BufferStrategy> strategy;
+    private Optional<Consumer<Graphics2D>> lastRenderer;
+    private Optional<BufferedImage> message;
     
     /**
      * Constructs a new DrawableFrameImpl.
@@ -39,11 +63,19 @@ public class DrawableFrameImpl extends JFrame implements DrawableFrame {
         this.overlayPanel = new JPanel();
         this.overlayPanel.setOpaque(false);
         this.setGlassPane(this.overlayPanel);
+        this.overlay = Optional.empty();
+        this.overlayComponent = new OverlayComponent();
+        this.getLayeredPane().add(this.overlayComponent, JLayeredPane.PALETTE_LAYER);
+        this.canvas = Optional.empty();
+        this.strategy = Optional.empty();
+        this.lastRenderer = Optional.empty();
+        this.message = Optional.empty();
     }
 
     @Override
     public void initDrawable() {
         this.overlayPanel.setPreferredSize(this.getPreferredSize());
+        this.overlayComponent.setBounds(0, 0, this.getLayeredPane().getWidth(), this.getLayeredPane().getHeight());
     }
 
     @Override
@@ -53,7 +85,6 @@ public class DrawableFrameImpl extends JFrame implements DrawableFrame {
             throw new IllegalArgumentException("Opacity parameter outside of expected range");
         }
 
-        this.overlayPanel.setVisible(true);
         final Dimension d = this.overlayPanel.getPreferredSize();
         final BufferedImage image = new BufferedImage(d.width, d.height, BufferedImage.TYPE_INT_ARGB);
 
@@ -78,6 +109,13 @@ public class DrawableFrameImpl extends JFrame implements DrawableFrame {
         g.setFont(font);
         g.drawString(gameMessage.getMessage(), x, y);
         g.dispose();
+        if (this.canvas.isPresent()) {
+            this.message = Optional.of(image);
+            this.lastRenderer.ifPresent(this::render);
+            gameMessage.getSound().playOnce();
+            return;
+        }
+        this.overlayPanel.setVisible(true);
         if (this.overlayPanel.getGraphics() != null) {
             this.overlayPanel.repaint();
             SwingUtilities.invokeLater(new Runnable() {
@@ -91,7 +129,137 @@ public class DrawableFrameImpl extends JFrame implements DrawableFrame {
 
     @Override
     public void clearMessage() {
+        if (this.canvas.isPresent()) {
+            this.message = Optional.empty();
+            this.lastRenderer.ifPresent(this::render);
+            return;
+        }
         this.overlayPanel.repaint();
         this.overlayPanel.setVisible(false);
     }
+
+    @Override
+    public Canvas enableActiveRendering(final Dimension size) {
+        final Canvas c = new Canvas();
+        c.setIgnoreRepaint(true);
+        c.setFocusable(false);
+        c.setPreferredSize(size);
+        this.canvas = Optional.of(c);
+        return c;
+    }
+
+    @Override
+    public void resizeCanvas(final Dimension size) {
+        if (!this.canvas.isPresent()) {
+            return;
+        }
+        final Canvas c = this.canvas.get();
+        // The lock isn't held while waiting, because the event dispatch thread renders the messages
+        invokeAndWait(() -> {
+            c.setPreferredSize(size);
+            this.pack();
+        });
+        synchronized (this) {
+            this.strategy.ifPresent(s -> s.dispose());
+            this.strategy = Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void render(final Consumer<Graphics2D> renderer) {
+        if (!this.canvas.isPresent() || !this.canvas.get().isDisplayable()) {
+            return;
+        }
+        this.lastRenderer = Optional.of(renderer);
+        final BufferStrategy bs = this.getStrategy();
+        do {
+            do {
+                final Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+                try {
+                    renderer.accept(g);
+                    final Point p = SwingUtilities.convertPoint(this.canvas.get().getParent(),
+                            this.canvas.get().getLocation(), this.overlayPanel);
+                    this.overlay.ifPresent(o -> {
+                        g.translate(-p.x, -p.y);
+                        o.accept(g, this.overlayPanel.getSize());
+                        g.translate(p.x, p.y);
+                    });
+                    if (this.message.isPresent()) {
+                        g.drawImage(this.message.get(), -p.x, -p.y, null);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            } while (bs.contentsRestored());
+            bs.show();
+        } while (bs.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    @Override
+    public void setOverlay(final Optional<BiConsumer<Graphics2D, Dimension>> overlay) {
+        this.overlay = Objects.requireNonNull(overlay);
+        this.overlayComponent.setBounds(0, 0, this.getLayeredPane().getWidth(), this.getLayeredPane().getHeight());
+        this.overlayComponent.repaint();
+    }
+
+    /**
+     * Runs an action on the event dispatch thread and waits for its end.
+     *
+     * @param action
+     *          the action to run
+     */
+    private static void invokeAndWait(final Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(action);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Gets the buffer strategy of the canvas, creating it the first time.
+     * It prefers accelerated buffers that are shown by page flipping,
+     * otherwise it lets the canvas choose the best strategy available.
+     *
+     * @return the buffer strategy
+     */
+    private BufferStrategy getStrategy() {
+        if (!this.strategy.isPresent()) {
+            final Canvas c = this.canvas.get();
+            try {
+                c.createBufferStrategy(N_BUFFERS, new BufferCapabilities(new ImageCapabilities(true),
+                        new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+            } catch (AWTException e) {
+                c.createBufferStrategy(N_BUFFERS);
+            }
+            this.strategy = Optional.of(c.getBufferStrategy());
+        }
+        return this.strategy.get();
+    }
+
+    /**
+     * The transparent component that draws the overlay above the content of the frame.
+     * It is painted again every time the content below it is painted.
+     */
+    private class OverlayComponent extends JComponent {
+
+        /**
+         * Auto-generated UID.
+         */
+        private static final long serialVersionUID = 6377410858411384871L;
+
+        @Override
+        protected void paintComponent(final Graphics g) {
+            if (!DrawableFrameImpl.this.canvas.isPresent()) {
+                DrawableFrameImpl.this.overlay.ifPresent(o -> o.accept((Graphics2D) g, this.getSize()));
+            }
+        }
+    }
 }
@@ -3,18 +3,23 @@ package view.game;
 import java.awt.AlphaComposite;
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.RadialGradientPaint;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.geom.Point2D;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import javax.swing.JComponent;
 import javax.swing.JFrame;
@@ -40,6 +45,11 @@ import view.game.GameOverPanel.GameOverObserver;
 public class GameFrameImpl implements GameFrame {
 
     private static final String FRAME_NAME = "Game";
+    // Set the system property to true to draw the game from the game loop, without Swing's repaints
+    private static final boolean ACTIVE_RENDERING = Boolean.getBoolean("bomberman.activeRendering");
+    // Set the system property to true to show the performance HUD from the start, the key toggles it
+    private static final boolean HUD = Boolean.getBoolean("bomberman.hud");
+    private static final int HUD_KEY = KeyEvent.VK_F3;
 
     private DrawableFrameImpl frame;
     private boolean initialized;
@@ -54,6 +64,9 @@ public class GameFrameImpl implements GameFrame {
     private SpotlightLayerUI layerUI;
     private JLayer<?> jlayer;
 
+    private boolean hudVisible;
+    private Optional<PerfHud> hud;
+
     /**
      * Creates a new frame for the game rendering.
      * 
@@ -63,6 +76,8 @@ public class GameFrameImpl implements GameFrame {
     public GameFrameImpl(final boolean darkMode) {
         this.darkMode = darkMode;
         this.initialized = false;
+        this.hudVisible = HUD;
+        this.hud = Optional.empty();
     }
 
     @Override
@@ -94,7 +109,17 @@ public class GameFrameImpl implements GameFrame {
                 }
             }
         });
+        this.frame.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(final KeyEvent e) {
+                if (e.getKeyCode() == HUD_KEY) {
+                    GameFrameImpl.this.hudVisible = !GameFrameImpl.this.hudVisible;
+                    showHud();
+                }
+            }
+        });
         this.frame.setResizable(false);
+        this.hud = Optional.empty();
 
         // Sets the panels
         this.gamePanel = new GamePanel(this.controller);
@@ -105,6 +130,10 @@ public class GameFrameImpl implements GameFrame {
         mainPanel.add(this.statisticPanel, BorderLayout.NORTH);
         if (this.darkMode) {
             this.layerUI = new SpotlightLayerUI(this.gamePanel.getTileSize());
+        }
+        if (ACTIVE_RENDERING) {
+            mainPanel.add(this.frame.enableActiveRendering(this.gamePanel.getPreferredSize()), BorderLayout.CENTER);
+        } else if (this.darkMode) {
             this.jlayer = new JLayer<JPanel>(this.gamePanel, layerUI);
             mainPanel.add(this.jlayer, BorderLayout.CENTER);
         } else {
@@ -118,6 +147,18 @@ public class GameFrameImpl implements GameFrame {
         this.initialized = true;
     }
 
+    /**
+     * Shows or hides the performance HUD, according to its visibility.
+     */
+    private void showHud() {
+        if (this.hudVisible && !this.hud.isPresent()) {
+            this.hud = Optional.of(new PerfHud(this.controller, this.gameLoop, this.gamePanel));
+        } else if (!this.hudVisible) {
+            this.hud = Optional.empty();
+        }
+        this.frame.setOverlay(this.hud.<BiConsumer<Graphics2D, Dimension>>map(h -> h::draw));
+    }
+
     /**
      * Custom exit procedure to execute before the frame's closing.
      */
@@ -159,6 +200,7 @@ public class GameFrameImpl implements GameFrame {
         checkInitialization();
         update();
         this.frame.initDrawable();
+        showHud();
         this.frame.setVisible(true);
         if (SoundEffect.isMusicOn()) {
             SoundEffect.GAME_THEME.playLoop();
@@ -180,10 +222,20 @@ public class GameFrameImpl implements GameFrame {
     @Override
     public void update() {
         checkInitialization();
-        this.gamePanel.repaint();
+        if (ACTIVE_RENDERING) {
+            this.frame.render(g -> {
+                this.gamePanel.render(g);
+                if (this.darkMode) {
+                    this.gamePanel.getHeroViewCenterPoint().ifPresent(p -> this.layerUI.paintLight(g, p,
+                            this.gamePanel.getPreferredSize().width, this.gamePanel.getPreferredSize().height));
+                }
+            });
+        } else {
+            this.gamePanel.repaint();
+        }
         this.statisticPanel.updateStats();
         this.statisticPanel.updateScore(this.controller.getHero().getScore());
-        if (this.darkMode) {
+        if (this.darkMode && !ACTIVE_RENDERING) {
             this.gamePanel.getHeroViewCenterPoint().ifPresent(p -> this.layerUI.moveLight(p, this.jlayer));
         }
     }
@@ -198,6 +250,7 @@ public class GameFrameImpl implements GameFrame {
     public void updateStage() {
         checkInitialization();
         this.gamePanel.initialize();
+        this.frame.resizeCanvas(this.gamePanel.getPreferredSize());
     }
     
     @Override
@@ -284,20 +337,35 @@ public class GameFrameImpl implements GameFrame {
 
         @Override
         public void paint(final Graphics g, final JComponent c) {
-            final Graphics2D g2 = (Graphics2D) g.create();
-
             // Paint the view.
-            super.paint(g2, c);
+            super.paint(g, c);
+            paintLight(g, new Point(mX, mY), c.getWidth(), c.getHeight());
+        }
+
+        /**
+         * Paints the darkness around the light.
+         * 
+         * @param g
+         *      the graphics where to paint
+         * @param point
+         *      the position of the spotlight
+         * @param width
+         *      the width of the area to darken
+         * @param height
+         *      the height of the area to darken
+         */
+        public void paintLight(final Graphics g, final Point point, final int width, final int height) {
+            final Graphics2D g2 = (Graphics2D) g.create();
 
             // Create a radial gradient, transparent in the middle.
-            final Point2D center = new Point2D.Float(mX, mY);
+            final Point2D center = new Point2D.Float(point.x, point.y);
             final float[] dist = {0.0f, 1.0f};
             final Color[] colors = {new Color(0.0f, 0.0f, 0.0f, 0.0f), Color.BLACK};
             final RadialGradientPaint p =
                     new RadialGradientPaint(center, this.radius, dist, colors);
             g2.setPaint(p);
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, ALFA));
-            g2.fillRect(0, 0, c.getWidth(), c.getHeight());
+            g2.fillRect(0, 0, width, height);
             g2.dispose();
         }
 
@@ -19,11 +19,16 @@ import java.util.stream.Collectors;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 import controller.GameController;
+import controller.RenderFrame;
+import model.level.WorldSnapshot;
+import model.units.EntityState;
 import model.units.PowerUpType;
 import model.units.Tile;
 import model.units.TileType;
+import model.units.enemy.EnemyState;
 import view.ImageLoader;
 import view.ImageLoader.GameImage;
 import view.SoundEffect;
@@ -34,6 +39,7 @@ import view.animations.HeroView;
 import view.animations.HeroViewImpl;
 import view.animations.factory.EnemyViewFactory;
 import view.animations.unit.AbstractEnemyView;
+import view.animations.unit.ScaledSprites;
 
 /**
  * A {@link JPanel} for the principal game's rendering.
@@ -55,15 +61,19 @@ public class GamePanel extends JPanel {
     private int tileSize;
     private final Map<TileType, Image> tilesImages;
     private final Map<PowerUpType, Image> powerUpImages;
+    private volatile TileLayer tileLayer;
 
     private Optional<HeroView> hero;
     private final Set<BombView> bombs;
     private final Deque<Set<ExplosionView>> explosions;
-    private final Set<AbstractEnemyView> enemies;
+    private final Map<EnemyState, AbstractEnemyView> enemies;
     private final Set<TextParticle> scores;
     
     private final EnemyViewFactory enemyFactory;
 
+    private long renderedFrames;
+    private long renderNanos;
+
     /**
      * Creates a new GamePanel.
      * 
@@ -78,10 +88,12 @@ public class GamePanel extends JPanel {
         this.hero = Optional.empty();
         this.bombs = new HashSet<>();
         this.explosions = new LinkedList<>();
-        this.enemies = new HashSet<>();
+        this.enemies = new HashMap<>();
         this.scores = new HashSet<>();
         this.enemyFactory = new EnemyViewFactory();
         initialize();
+        // The changes of the map come from the game loop, before the states that contain them
+        this.controller.addTileListener(c -> this.tileLayer.invalidate(c));
     }
     
     /**
@@ -122,6 +134,8 @@ public class GamePanel extends JPanel {
         powerUpImages.put(PowerUpType.MYSTERY, ImageLoader.createImageOfSize(GameImage.MYSTERY, this.tileSize, this.tileSize));
         powerUpImages.put(PowerUpType.KEY, ImageLoader.createImageOfSize(GameImage.KEY, this.tileSize, this.tileSize));
 
+        this.tileLayer = new TileLayer(this, this.controller.getLevelSize(), this.tileSize, this.tilesImages);
+        ScaledSprites.clear();
         this.hero = Optional.empty();
         this.bombs.clear();
         this.explosions.clear();
@@ -135,7 +149,8 @@ public class GamePanel extends JPanel {
         final Container c = this.getTopLevelAncestor();
         if (c instanceof JFrame) {
             final JFrame f = (JFrame) c;
-            f.pack();
+            // The panel is initialized again by the game loop at every stage
+            SwingUtilities.invokeLater(f::pack);
         }
     }
 
@@ -144,16 +159,35 @@ public class GamePanel extends JPanel {
      */
     @Override
     public void paintComponent(final Graphics g) {
+        render(g);
+        // Ensures the synchronization of animations
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Draws all the elements of the game on the specified graphics.
+     * It is used by the panel itself, but also to draw the game on a different surface.
+     * 
+     * @param g
+     *          the graphics where to draw
+     */
+    public void render(final Graphics g) {
+        final RenderEvent event = new RenderEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        // Takes the last state published by the game loop
+        final RenderFrame frame = this.controller.getFrame();
+        final WorldSnapshot world = frame.getCurrent();
+        final WorldSnapshot previous = frame.getPrevious();
+        final double alpha = frame.getAlpha();
         // Updates sprites
         updateSprites();
+        // Draws the map
+        this.tileLayer.draw(g, world);
         // Draws the power-ups
-        for (final Tile p : this.controller.getPowerUp()) {
+        for (final Tile p : world.getPowerUps()) {
             g.drawImage(this.powerUpImages.get(p.getPowerup().get()), p.getX(), p.getY(), this);
         }
-        // Draws the map
-        for (final Tile p : this.controller.getTiles()) {
-            g.drawImage(this.tilesImages.get(p.getType()), p.getX(), p.getY(), this);
-        }
         // Draws the explosions
         synchronized (this.explosions) {
             if (!this.explosions.isEmpty()) {
@@ -163,10 +197,10 @@ public class GamePanel extends JPanel {
             }
         }
         // Draws the bombs
-        this.controller.getPlantedBombs().stream().filter(b -> !this.bombs.contains(b)).forEach(b -> {
+        world.getPlantedBombs().stream().filter(b -> !this.bombs.contains(b)).forEach(b -> {
             this.bombs.add(new BombView(b, this.controller.getFPS(), this.controller.getBombDelay()));
         });
-        this.bombs.removeIf(b -> !this.controller.getPlantedBombs().contains(b.getLevelElement()));
+        this.bombs.removeIf(b -> !world.getPlantedBombs().contains(b.getLevelElement()));
         this.bombs.stream().forEach(b -> g.drawImage(b.getImage(), b.getX(), b.getY(), null));
         // Draws scores
         this.scores.removeIf(s -> s.isTerminated());
@@ -174,29 +208,47 @@ public class GamePanel extends JPanel {
             s.tick();
             s.render(g);
         });
-        // Draws the enemies
-        this.controller.getEnemies().stream().filter(e -> !this.enemies.contains(e)).forEach(e -> {
-            this.enemies.add(enemyFactory.createEnemyView(e, this.controller.getFPS()));
-        });
-        final Iterator<AbstractEnemyView> iterator = this.enemies.iterator();
+        // Draws the enemies, between their previous and their last position
+        final Map<EntityState, EntityState> before = new HashMap<>();
+        if (alpha < 1) {
+            previous.getEnemies().forEach(e -> before.put(e, e));
+        }
+        for (final EnemyState e : world.getEnemies()) {
+            if (this.enemies.containsKey(e)) {
+                this.enemies.get(e).update(before.containsKey(e) ? e.interpolate(before.get(e), alpha) : e);
+            } else {
+                this.enemies.put(e, enemyFactory.createEnemyView(e, this.controller.getFPS()));
+            }
+        }
+        final Iterator<AbstractEnemyView> iterator = this.enemies.values().iterator();
         while (iterator.hasNext()) {
             final AbstractEnemyView enemy = iterator.next();
-            if (!this.controller.getEnemies().contains(enemy.getLevelElement())) {
+            if (!world.getEnemies().contains(enemy.getLevelElement())) {
                 this.scores.add(new TextParticle(String.valueOf(enemy.getLevelElement().getScore()),
                         enemy.getX(), enemy.getY(), this.controller.getFPS()));
                 SoundEffect.HIT.playOnce();
                 iterator.remove();
             }
         }
-        this.enemies.stream().forEach(e -> g.drawImage(e.getImage(), e.getX(), e.getY(), null));
+        this.enemies.values().stream().forEach(e -> g.drawImage(e.getImage(), e.getX(), e.getY(), null));
         // Draws the hero
         if (this.hero.isPresent()) {
+            this.hero.get().update(world.getHero().interpolate(previous.getHero(), alpha));
             g.drawImage(this.hero.get().getImage(), this.hero.get().getX(), this.hero.get().getY(), null);
         } else {
-            this.hero = Optional.of(new HeroViewImpl(this.controller.getHero(), this.controller.getFPS()));
+            this.hero = Optional.of(new HeroViewImpl(world.getHero(), this.controller.getFPS()));
+        }
+        this.renderedFrames++;
+        this.renderNanos += System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.enemies = this.enemies.size();
+            event.bombs = this.bombs.size();
+            synchronized (this.explosions) {
+                event.explosions = this.explosions.size();
+            }
+            event.commit();
         }
-        // Ensures the synchronization of animations
-        Toolkit.getDefaultToolkit().sync();
     }
 
     private void updateSprites() {
@@ -205,7 +257,7 @@ public class GamePanel extends JPanel {
         synchronized (this.explosions) {
             this.explosions.stream().forEach(s -> s.forEach(e -> e.updateFrame()));
         }
-        this.enemies.stream().forEach(e -> e.updateFrame());
+        this.enemies.values().stream().forEach(e -> e.updateFrame());
     }
 
     /**
@@ -216,6 +268,20 @@ public class GamePanel extends JPanel {
         return this.hero.isPresent() ? Optional.of(this.hero.get().getCenterPoint()) : Optional.empty();
     }
 
+    /**
+     * @return the number of frames drawn by {@link #render(Graphics)}.
+     */
+    public long getRenderedFrames() {
+        return this.renderedFrames;
+    }
+
+    /**
+     * @return the total time, in nanoseconds, spent drawing the frames.
+     */
+    public long getRenderNanos() {
+        return this.renderNanos;
+    }
+
     /**
      * @return the size of a tile.
      */
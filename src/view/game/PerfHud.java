@@ -0,0 +1,183 @@
+package view.game;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import controller.GameController;
+import controller.GameLoop;
+import controller.metrics.Histogram;
+import controller.metrics.Timing;
+import model.level.WorldSnapshot;
+import view.ImageLoader;
+
+/**
+ * A debug overlay that shows some numbers about the performance of the game:
+ * frames per second, tick and render time, allocation rate, live threads and entities.
+ * The numbers are sampled a few times per second and written in an image,
+ * that is drawn by all the frames until the next sample,
+ * so the HUD costs a single blit and doesn't distort the time of the frames.
+ * It must be drawn on the same thread that draws the {@link GamePanel}.
+ *
+ */
+public class PerfHud {
+
+    private static final long SAMPLE_NANOS = 250000000L;
+    private static final double SECOND = 1000000000.0;
+    private static final double MILLI = 1000000.0;
+    private static final double MEGABYTE = 1024 * 1024;
+    private static final double P99 = 99;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.BOLD, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 160);
+    private static final int MARGIN = 4;
+
+    private final GameController controller;
+    private final GameLoop gameLoop;
+    private final GamePanel panel;
+    private final ThreadMXBean threads;
+    private Optional<BufferedImage> image;
+    private long lastSample;
+    private long lastFrames;
+    private long lastRenderNanos;
+    private long lastTicks;
+    private long lastTickNanos;
+    private long lastAllocated;
+
+    /**
+     * Constructs the HUD.
+     *
+     * @param controller
+     *          the controller of the game
+     * @param gameLoop
+     *          the loop of the game, that measures the ticks
+     * @param panel
+     *          the panel of the game, that measures the frames
+     */
+    public PerfHud(final GameController controller, final GameLoop gameLoop, final GamePanel panel) {
+        this.controller = controller;
+        this.gameLoop = gameLoop;
+        this.panel = panel;
+        this.threads = ManagementFactory.getThreadMXBean();
+        this.image = Optional.empty();
+        this.sample(System.nanoTime());
+    }
+
+    /**
+     * Draws the HUD in the bottom left corner, sampling the numbers again if they are old.
+     *
+     * @param g
+     *          the graphics where to draw
+     * @param size
+     *          the size of the area where to draw
+     */
+    public void draw(final Graphics2D g, final Dimension size) {
+        final long now = System.nanoTime();
+        if (!this.image.isPresent() || now - this.lastSample >= SAMPLE_NANOS) {
+            this.image = Optional.of(this.createImage(this.sample(now)));
+        }
+        g.drawImage(this.image.get(), MARGIN, size.height - this.image.get().getHeight() - MARGIN, null);
+    }
+
+    /**
+     * Takes the numbers elapsed since the last sample.
+     *
+     * @param now
+     *          the current time
+     * @return the lines of text to show
+     */
+    private List<String> sample(final long now) {
+        final double seconds = (now - this.lastSample) / SECOND;
+        final long frames = this.panel.getRenderedFrames();
+        final long renderNanos = this.panel.getRenderNanos();
+        final Histogram ticks = this.gameLoop.getMetrics().getHistogram(Timing.TICK);
+        final long nTicks = ticks.getCount();
+        final long tickNanos = ticks.getSum();
+        final long allocated = this.getAllocatedBytes();
+        final WorldSnapshot world = this.controller.getFrame().getCurrent();
+
+        final List<String> lines = Arrays.asList(
+                String.format("FPS      %6.1f", (frames - this.lastFrames) / seconds),
+                String.format("Tick     %6.2f ms (p99 %.2f)", average(tickNanos - this.lastTickNanos, nTicks - this.lastTicks),
+                        ticks.getPercentile(P99) / MILLI),
+                String.format("Render   %6.2f ms", average(renderNanos - this.lastRenderNanos, frames - this.lastFrames)),
+                allocated < 0 ? "Alloc       n/a"
+                        : String.format("Alloc    %6.1f MB/s", Math.max(0, allocated - this.lastAllocated) / MEGABYTE / seconds),
+                String.format("Threads  %6d", this.threads.getThreadCount()),
+                String.format("Enemies  %6d  Bombs %d  Power-ups %d", world.getEnemies().size(),
+                        world.getPlantedBombs().size(), world.getPowerUps().size()));
+
+        this.lastSample = now;
+        this.lastFrames = frames;
+        this.lastRenderNanos = renderNanos;
+        this.lastTicks = nTicks;
+        this.lastTickNanos = tickNanos;
+        this.lastAllocated = allocated;
+        return lines;
+    }
+
+    /**
+     * Writes the lines of text in a new image.
+     *
+     * @param lines
+     *          the lines to write
+     * @return the image
+     */
+    private BufferedImage createImage(final List<String> lines) {
+        final BufferedImage measure = ImageLoader.createCompatibleImage(1, 1);
+        final Graphics2D mg = measure.createGraphics();
+        final FontMetrics metrics = mg.getFontMetrics(FONT);
+        mg.dispose();
+        final int width = lines.stream().mapToInt(metrics::stringWidth).max().orElse(0) + 2 * MARGIN;
+        final int height = lines.size() * metrics.getHeight() + 2 * MARGIN;
+
+        final BufferedImage text = ImageLoader.createCompatibleImage(width, height);
+        final Graphics2D g = text.createGraphics();
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, width, height);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < lines.size(); i++) {
+            g.drawString(lines.get(i), MARGIN, MARGIN + i * metrics.getHeight() + metrics.getAscent());
+        }
+        g.dispose();
+        return text;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the live threads, if the JVM can measure them.
+     *
+     * @return the allocated bytes, or -1 if they can't be measured
+     */
+    private long getAllocatedBytes() {
+        if (this.threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) this.threads;
+            if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+                return Arrays.stream(t.getThreadAllocatedBytes(t.getAllThreadIds())).filter(b -> b > 0).sum();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the average duration, in milliseconds.
+     *
+     * @param nanos
+     *          the total duration, in nanoseconds
+     * @param count
+     *          the number of measures
+     * @return the average, or 0 if there are no measures
+     */
+    private static double average(final long nanos, final long count) {
+        return count == 0 ? 0 : nanos / MILLI / count;
+    }
+}
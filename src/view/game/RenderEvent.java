@@ -0,0 +1,29 @@
+package view.game;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for the drawing of a frame of the game.
+ * It is disabled by default: it must be enabled in the settings of the recording.
+ */
+@Name("bomberman.Render")
+@Label("Game Render")
+@Category({ "Bomberman", "View" })
+@Description("The drawing of a frame of the game panel")
+@Enabled(false)
+class RenderEvent extends Event {
+
+    @Label("Enemies")
+    int enemies;
+
+    @Label("Bombs")
+    int bombs;
+
+    @Label("Explosions")
+    int explosions;
+}
@@ -0,0 +1,181 @@
+package view.game;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.level.TileChange;
+import model.level.WorldSnapshot;
+import model.units.TileType;
+import view.ImageLoader;
+
+/**
+ * This class keeps the tiles of the map drawn into an image,
+ * so that a frame draws the whole board with a single blit.
+ * The image is a {@link VolatileImage} when the component can create it,
+ * otherwise a compatible BufferedImage is used.
+ * Only the cells notified by {@link #invalidate(TileChange)} are drawn again;
+ * the whole map is drawn only when the map is new or the image has lost its content.
+ *
+ */
+public class TileLayer {
+
+    private final Component component;
+    private final int nTiles;
+    private final int tileSize;
+    private final Map<TileType, Image> tilesImages;
+    private final TileType[] drawnTypes;
+    private final Map<Integer, TileType> changed;
+    private final BitSet dirty;
+    private Optional<VolatileImage> volatileImage;
+    private Optional<Image> image;
+    private int drawnMap;
+
+    /**
+     * Constructs the layer of the tiles.
+     *
+     * @param component
+     *          the component where the layer is drawn
+     * @param nTiles
+     *          the number of tiles of a side of the map
+     * @param tileSize
+     *          the size of a tile
+     * @param tilesImages
+     *          the images of the tiles' types
+     */
+    public TileLayer(final Component component, final int nTiles, final int tileSize, final Map<TileType, Image> tilesImages) {
+        this.component = component;
+        this.nTiles = nTiles;
+        this.tileSize = tileSize;
+        this.tilesImages = tilesImages;
+        this.drawnTypes = new TileType[nTiles * nTiles];
+        this.changed = new ConcurrentHashMap<>();
+        this.dirty = new BitSet(nTiles * nTiles);
+        this.volatileImage = Optional.empty();
+        this.image = Optional.empty();
+        this.drawnMap = -1;
+    }
+
+    /**
+     * Marks a cell to be drawn again. It can be called by the game loop while the layer is drawn:
+     * the cell is drawn from the states of the game until one of them shows its new type.
+     *
+     * @param change
+     *          the change of the cell
+     */
+    public void invalidate(final TileChange change) {
+        if (change.getRow() < this.nTiles && change.getColumn() < this.nTiles) {
+            this.changed.put(change.getRow() * this.nTiles + change.getColumn(), change.getNewType());
+        }
+    }
+
+    /**
+     * Draws the tiles of a state of the game, updating the cells that have changed since the last call.
+     * The cells without a tile are filled with the background of the component.
+     *
+     * @param g
+     *          the graphics where to draw
+     * @param world
+     *          the state to draw
+     */
+    public void draw(final Graphics g, final WorldSnapshot world) {
+        do {
+            final boolean restored = this.validate();
+            if (restored || world.getMapId() != this.drawnMap) {
+                if (world.getMapId() != this.drawnMap) {
+                    // The changes of the old map are no more valid
+                    this.changed.clear();
+                    this.drawnMap = world.getMapId();
+                }
+                Arrays.fill(this.drawnTypes, null);
+                this.dirty.set(0, this.drawnTypes.length);
+            }
+            for (final Map.Entry<Integer, TileType> change : this.changed.entrySet()) {
+                final int cell = change.getKey();
+                this.dirty.set(cell);
+                if (this.getType(world, cell) == change.getValue()) {
+                    this.changed.remove(cell, change.getValue());
+                }
+            }
+            if (!this.dirty.isEmpty()) {
+                this.update(world);
+            }
+            g.drawImage(this.image.get(), 0, 0, null);
+        } while (this.volatileImage.isPresent() && this.volatileImage.get().contentsLost());
+    }
+
+    /**
+     * Makes sure that the image is ready to be used.
+     *
+     * @return true if the content of the image was lost and it must be drawn again
+     */
+    private boolean validate() {
+        final int side = this.nTiles * this.tileSize;
+        final GraphicsConfiguration gc = this.component.getGraphicsConfiguration();
+        if (this.volatileImage.isPresent()) {
+            final int status = this.volatileImage.get().validate(gc);
+            if (status == VolatileImage.IMAGE_OK) {
+                return false;
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                return true;
+            }
+            this.volatileImage.get().flush();
+            this.volatileImage = Optional.empty();
+            this.image = Optional.empty();
+        }
+        if (!this.image.isPresent()) {
+            this.volatileImage = Optional.ofNullable(gc == null ? null : this.component.createVolatileImage(side, side));
+            this.image = Optional.of(this.volatileImage.isPresent() ? this.volatileImage.get()
+                    : ImageLoader.createCompatibleImage(side, side));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Draws again the dirty cells of the image whose type differs from the state.
+     * The cells whose image isn't ready yet stay dirty.
+     *
+     * @param world
+     *          the state to draw
+     */
+    private void update(final WorldSnapshot world) {
+        final Graphics2D g = (Graphics2D) this.image.get().getGraphics();
+        final Color background = this.component.getBackground();
+        for (int i = this.dirty.nextSetBit(0); i >= 0; i = this.dirty.nextSetBit(i + 1)) {
+            final TileType type = this.getType(world, i);
+            if (type != this.drawnTypes[i]) {
+                final int x = (i / this.nTiles) * this.tileSize;
+                final int y = (i % this.nTiles) * this.tileSize;
+                // The cells with a powerup status have only the background
+                final Image tile = this.tilesImages.get(type);
+                g.setColor(background);
+                g.fillRect(x, y, this.tileSize, this.tileSize);
+                if (tile == null || g.drawImage(tile, x, y, this.component)) {
+                    this.drawnTypes[i] = type;
+                    this.dirty.clear(i);
+                } else {
+                    // The scaled image isn't ready yet, the cell will be drawn again
+                    this.drawnTypes[i] = null;
+                }
+            } else {
+                this.dirty.clear(i);
+            }
+        }
+        g.dispose();
+    }
+
+    private TileType getType(final WorldSnapshot world, final int cell) {
+        return world.getTileType(cell / this.nTiles, cell % this.nTiles);
+    }
+}
@@ -0,0 +1,72 @@
+package view.test;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import view.game.DrawableFrameImpl;
+
+/**
+ * This class is used to test the active rendering of the frame of the game.
+ * It needs a display, so it's skipped in a headless environment.
+ */
+public class TestDrawableFrame {
+
+    private static final int SIZE = 200;
+    private static final int FRAMES = 10;
+
+    /**
+     * This test verifies that the canvas draws some frames, that it can be resized by a thread
+     * different from the event dispatch thread, and that it draws again with the new size.
+     * @throws InvocationTargetException
+     *          if the frame can't be shown or disposed
+     * @throws InterruptedException
+     *          if the test is interrupted
+     */
+    @Test
+    public void testActiveRendering() throws InvocationTargetException, InterruptedException {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        final DrawableFrameImpl frame = new DrawableFrameImpl();
+        final Canvas[] canvas = new Canvas[1];
+        SwingUtilities.invokeAndWait(() -> {
+            canvas[0] = frame.enableActiveRendering(new Dimension(SIZE, SIZE));
+            frame.add(canvas[0]);
+            frame.pack();
+            frame.initDrawable();
+            frame.setVisible(true);
+        });
+        try {
+            final int[] frames = {0};
+            for (int i = 0; i < FRAMES; i++) {
+                frame.render(g -> {
+                    g.setColor(Color.BLACK);
+                    g.fillRect(0, 0, SIZE, SIZE);
+                    frames[0]++;
+                });
+            }
+            Assert.assertTrue(frames[0] >= FRAMES);
+
+            frame.resizeCanvas(new Dimension(SIZE * 2, SIZE * 2));
+            Assert.assertEquals(canvas[0].getSize(), new Dimension(SIZE * 2, SIZE * 2));
+            frames[0] = 0;
+            for (int i = 0; i < FRAMES; i++) {
+                frame.render(g -> {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, SIZE * 2, SIZE * 2);
+                    frames[0]++;
+                });
+            }
+            Assert.assertTrue(frames[0] >= FRAMES);
+        } finally {
+            SwingUtilities.invokeAndWait(frame::dispose);
+        }
+    }
+}